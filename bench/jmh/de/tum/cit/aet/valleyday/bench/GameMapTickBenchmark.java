@@ -0,0 +1,56 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one full {@code GameMap.tick} at 60 FPS.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameMapTickBenchmark {
+
+    /** Edge length of a generated map, 0 plays on the level 1 map (32x32). */
+    @Param({"0", "512"})
+    public int mapSize;
+
+    @Param({"0", "200", "2000", "5000"})
+    public int extraWildlife;
+
+    /** Whether wildlife decides on the fork/join pool, kicks in from 1024 simulated visitors. */
+    @Param({"true", "false"})
+    public boolean parallelWildlife;
+
+    @Param({"0", "0.5"})
+    public float cropFraction;
+
+    private HeadlessSimulation simulation;
+
+    @Setup
+    public void setUp() {
+        simulation = new HeadlessSimulation(mapSize, extraWildlife, cropFraction, 42L);
+        simulation.getMap().setParallelWildlife(parallelWildlife);
+        // Get past the chaser spawn so every tick does the full amount of work
+        simulation.step(600);
+    }
+
+    @TearDown
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public void tick() {
+        simulation.step();
+    }
+}
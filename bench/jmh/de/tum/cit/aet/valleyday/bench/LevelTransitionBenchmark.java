@@ -0,0 +1,56 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import de.tum.cit.aet.valleyday.map.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code GameMap.startNextLevel} through all levels, and of ticking the last level afterwards.
+ * The second number shows whether earlier levels leave work behind in the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LevelTransitionBenchmark {
+
+    @Param({"0", "200"})
+    public int extraWildlife;
+
+    private HeadlessSimulation simulation;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        simulation = new HeadlessSimulation(extraWildlife, 0.25f, 42L);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public GameMap allLevels() {
+        GameMap map = simulation.getMap();
+        while (map.getCurrentLevel() < map.getMaxLevel()) {
+            map.startNextLevel();
+        }
+        return map;
+    }
+
+    @Benchmark
+    public GameMap allLevelsThenTick() {
+        GameMap map = allLevels();
+        simulation.step(60);
+        return map;
+    }
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import de.tum.cit.aet.valleyday.map.MapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing cost of {@code MapLoader.load} for generated properties maps,
+ * once in the row format and once in the per-coordinate format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapLoaderBenchmark {
+
+    @Param({"32", "128", "512"})
+    public int size;
+
+    private String rowContent;
+    private String coordinateContent;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        StringBuilder rows = new StringBuilder("width=" + size + "\nheight=" + size + "\n");
+        StringBuilder coordinates = new StringBuilder(rows);
+        for (int y = 0; y < size; y++) {
+            rows.append("row").append(y).append('=');
+            for (int x = 0; x < size; x++) {
+                int type = random.nextInt(8) - 2;
+                rows.append(type < 0 ? '.' : (char) ('0' + type));
+                if (type >= 0) {
+                    coordinates.append(x).append(',').append(y).append('=').append(type).append('\n');
+                }
+            }
+            rows.append('\n');
+        }
+        rowContent = rows.toString();
+        coordinateContent = coordinates.toString();
+    }
+
+    @Benchmark
+    public int[][] loadRows() {
+        return MapLoader.load(rowContent, size, size);
+    }
+
+    @Benchmark
+    public int[][] loadCoordinates() {
+        return MapLoader.load(coordinateContent, size, size);
+    }
+}
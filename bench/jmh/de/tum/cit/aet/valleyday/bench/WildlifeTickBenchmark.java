@@ -0,0 +1,52 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import de.tum.cit.aet.valleyday.map.WildlifeVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code WildlifeVisitor.tick} for every visitor on the map, without the physics step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WildlifeTickBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int visitors;
+
+    @Param({"0", "0.5"})
+    public float cropFraction;
+
+    private HeadlessSimulation simulation;
+    private List<WildlifeVisitor> wildlife;
+
+    @Setup
+    public void setUp() {
+        // Every level already spawns 20 visitors
+        simulation = new HeadlessSimulation(Math.max(0, visitors - 20), cropFraction, 42L);
+        wildlife = simulation.getMap().getWildlifeVisitors();
+    }
+
+    @TearDown
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public void tickAll() {
+        for (WildlifeVisitor visitor : wildlife) {
+            visitor.tick(HeadlessSimulation.FRAME_TIME);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import com.badlogic.gdx.Input;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Fails if the steady-state tick allocates. Runs the headless game with the player walking in
+ * circles, lets it warm up, then measures the bytes this thread allocates per tick. Garbage made
+ * every tick ends up as GC pauses, which show as stutter on slow machines.
+ * <p>
+ * Visitors stay below the parallel threshold of the wildlife system: forking decisions allocates
+ * its fork/join tasks by design.
+ * Arguments: [seconds] [max bytes per tick] [extra wildlife]
+ */
+public final class AllocationCheck {
+    private static final int WARMUP_FRAMES = 1200;
+    // The player walks a square of this many frames per side
+    private static final int SIDE_FRAMES = 40;
+    private static final int[] SIDES = {Input.Keys.W, Input.Keys.D, Input.Keys.S, Input.Keys.A};
+
+    private AllocationCheck() {}
+
+    public static void main(String[] args) {
+        float seconds = args.length > 0 ? Float.parseFloat(args[0]) : 30f;
+        double maxBytesPerTick = args.length > 1 ? Double.parseDouble(args[1]) : 16;
+        int wildlife = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            System.err.println("This JVM cannot count allocated bytes per thread");
+            System.exit(2);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        HeadlessSimulation simulation = new HeadlessSimulation(wildlife, 0.25f, 42L);
+        // Warm-up: JIT, lazily grown buffers and the first crop timers
+        walk(simulation, WARMUP_FRAMES);
+
+        int frames = (int) (seconds / HeadlessSimulation.FRAME_TIME);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        walk(simulation, frames);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        double perTick = (double) allocated / frames;
+        System.out.printf("%d ticks, %d visitors: %d bytes allocated, %.1f bytes/tick (limit %.1f)%n",
+                frames, simulation.getMap().getWildlifeVisitors().size(), allocated, perTick, maxBytesPerTick);
+        simulation.dispose();
+        System.exit(perTick > maxBytesPerTick ? 1 : 0);
+    }
+
+    private static void walk(HeadlessSimulation simulation, int frames) {
+        ScriptedInput input = simulation.getInput();
+        for (int i = 0; i < frames; i++) {
+            int frame = i % (SIDE_FRAMES * SIDES.length);
+            if (frame % SIDE_FRAMES == 0) {
+                input.releaseAll();
+                input.press(SIDES[frame / SIDE_FRAMES]);
+            }
+            simulation.step();
+        }
+    }
+}
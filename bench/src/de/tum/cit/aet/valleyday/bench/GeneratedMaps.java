@@ -0,0 +1,68 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes square TMX maps of any size for benchmarks, so large maps can be measured without
+ * checking them into the assets. The maps have the same layers as the game's maps but no
+ * tileset (every cell is empty), the game only takes its size from them.
+ */
+public final class GeneratedMaps {
+    private static final Map<Integer, Path> cache = new HashMap<>();
+
+    private GeneratedMaps() {}
+
+    /**
+     * @return The absolute path of a {@code size} x {@code size} TMX file, written on first use.
+     */
+    public static synchronized String squareMap(int size) {
+        Path path = cache.get(size);
+        if (path == null) {
+            try {
+                path = Files.createTempFile("valleyday-" + size + "x" + size + "-", ".tmx");
+                path.toFile().deleteOnExit();
+                Files.writeString(path, tmx(size), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cache.put(size, path);
+        }
+        return path.toAbsolutePath().toString();
+    }
+
+    private static String tmx(int size) {
+        StringBuilder xml = new StringBuilder(size * size * 2 + 1024);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<map version=\"1.10\" orientation=\"orthogonal\" renderorder=\"right-down\" width=\"").append(size)
+                .append("\" height=\"").append(size)
+                .append("\" tilewidth=\"16\" tileheight=\"16\" infinite=\"0\" nextlayerid=\"4\" nextobjectid=\"1\">\n");
+        layer(xml, 1, "Tile Layer 1", size);
+        layer(xml, 2, "Tile Layer 2", size);
+        xml.append(" <objectgroup id=\"3\" name=\"Object Layer 1\"/>\n");
+        xml.append("</map>\n");
+        return xml.toString();
+    }
+
+    private static void layer(StringBuilder xml, int id, String name, int size) {
+        xml.append(" <layer id=\"").append(id).append("\" name=\"").append(name)
+                .append("\" width=\"").append(size).append("\" height=\"").append(size).append("\">\n");
+        xml.append("  <data encoding=\"csv\">\n");
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                xml.append('0');
+                if (x < size - 1 || y < size - 1) {
+                    xml.append(',');
+                }
+            }
+            xml.append('\n');
+        }
+        xml.append("  </data>\n");
+        xml.append(" </layer>\n");
+    }
+}
@@ -0,0 +1,47 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Boots libGDX without a window so the simulation can run in benchmarks and tools.
+ * Files, logging and the Box2D natives work as in the game. There is no GL context,
+ * so {@code Gdx.gl} is replaced by a stub that ignores every call. Textures still load
+ * (the TMX loader needs them), they are just never uploaded.
+ */
+public final class HeadlessHarness {
+    private static HeadlessApplication application;
+
+    private HeadlessHarness() {}
+
+    /**
+     * Starts the headless backend. Safe to call more than once.
+     */
+    public static synchronized void boot() {
+        if (application != null) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // We drive the simulation ourselves, the backend loop only has to stay out of the way.
+        config.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl = Gdx.gl20 = nullGl();
+    }
+
+    private static GL20 nullGl() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+                (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) return false;
+                    if (type == int.class) return 0;
+                    if (type == float.class) return 0f;
+                    if (type == long.class) return 0L;
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,117 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import de.tum.cit.aet.valleyday.map.GameMap;
+import de.tum.cit.aet.valleyday.map.WildlifeVisitor;
+import de.tum.cit.aet.valleyday.tiles.TileStorage;
+
+import java.util.Random;
+
+/**
+ * A {@link GameMap} running without a window, driven by {@link ScriptedInput}.
+ * The map runs in endless mode so long runs never stop at a game over.
+ */
+public class HeadlessSimulation {
+    public static final float FRAME_TIME = 1f / 60f;
+
+    private final GameMap map;
+    private final ScriptedInput input;
+    private final Random random;
+
+    /**
+     * @param extraWildlife Visitors spawned on top of the 20 every level starts with.
+     * @param cropFraction Share of soil tiles (0..1) that get a seed planted.
+     * @param seed Seed for the map and for the placement of the extra visitors and crops.
+     */
+    public HeadlessSimulation(int extraWildlife, float cropFraction, long seed) {
+        this(0, extraWildlife, cropFraction, seed);
+    }
+
+    /**
+     * @param mapSize Edge length of a generated square map, or 0 to play on the first level's own map.
+     */
+    public HeadlessSimulation(int mapSize, int extraWildlife, float cropFraction, long seed) {
+        HeadlessHarness.boot();
+        this.input = new ScriptedInput();
+        this.random = new Random(seed);
+        this.map = new GameMap(null, input, false, seed);
+        this.map.setEndless(true);
+        if (mapSize > 0) {
+            map.loadCustomMap(GeneratedMaps.squareMap(mapSize));
+        }
+        spawnWildlife(extraWildlife);
+        plantCrops(cropFraction);
+    }
+
+    public void spawnWildlife(int count) {
+        WildlifeVisitor.WildlifeType[] types = WildlifeVisitor.WildlifeType.values();
+        for (int i = 0; i < count; i++) {
+            float x = 1 + random.nextFloat() * (map.getWidth() - 2);
+            float y = 1 + random.nextFloat() * (map.getHeight() - 2);
+            map.addWildlife(x, y, types[random.nextInt(types.length)]);
+        }
+    }
+
+    /**
+     * Plants seeds on a share of the soil tiles.
+     */
+    public void plantCrops(float fraction) {
+        TileStorage tiles = map.getTileStorage();
+        for (int x = 1; x < map.getWidth() - 1; x++) {
+            for (int y = 1; y < map.getHeight() - 1; y++) {
+                if (tiles.isSoil(x, y) && random.nextFloat() < fraction) {
+                    tiles.plantSeed(x, y);
+                }
+            }
+        }
+    }
+
+    /** Advances the simulation by one frame of {@link #FRAME_TIME}. */
+    public void step() {
+        map.tick(FRAME_TIME);
+        input.endFrame();
+    }
+
+    public void step(int frames) {
+        for (int i = 0; i < frames; i++) {
+            step();
+        }
+    }
+
+    public GameMap getMap() {
+        return map;
+    }
+
+    public ScriptedInput getInput() {
+        return input;
+    }
+
+    public void dispose() {
+        map.dispose();
+    }
+
+    /**
+     * Runs the simulation and prints the average tick time.
+     * Arguments: [seconds] [extra wildlife] [crop fraction] [map size, 0 = level map]
+     */
+    public static void main(String[] args) {
+        float seconds = args.length > 0 ? Float.parseFloat(args[0]) : 60f;
+        int wildlife = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        float crops = args.length > 2 ? Float.parseFloat(args[2]) : 0.25f;
+        int mapSize = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        HeadlessSimulation simulation = new HeadlessSimulation(mapSize, wildlife, crops, 42L);
+        int frames = (int) (seconds / FRAME_TIME);
+        // Let the JIT settle before measuring
+        simulation.step(Math.min(frames, 600));
+
+        long start = System.nanoTime();
+        simulation.step(frames);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%d frames, %dx%d map, %d visitors: %.3f us/tick%n",
+                frames, simulation.getMap().getWidth(), simulation.getMap().getHeight(),
+                simulation.getMap().getWildlifeVisitors().size(), elapsed / 1000.0 / frames);
+        simulation.dispose();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,61 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import de.tum.cit.aet.valleyday.map.GameMap;
+import de.tum.cit.aet.valleyday.map.Player;
+import de.tum.cit.aet.valleyday.map.ReplayInput;
+import de.tum.cit.aet.valleyday.map.WildlifeVisitor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Plays a replay recorded with {@code --record <file>} without a window and prints a checksum of
+ * the final state. Two runs of the same file must print the same checksum; if they do not, some
+ * randomness or timing still bypasses the map seed.
+ * Arguments: &lt;replay file&gt;
+ */
+public final class ReplayRunner {
+    private ReplayRunner() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <replay file>");
+            System.exit(1);
+        }
+
+        HeadlessHarness.boot();
+        try (ReplayInput input = new ReplayInput(new FileInputStream(args[0]))) {
+            GameMap map = new GameMap(null, input, false, input.getSeed());
+            int ticks = 0;
+            long start = System.nanoTime();
+            while (input.next()) {
+                // The game starts the next level between ticks, after the level complete screen
+                while (map.getCurrentLevel() < input.getLevel() && map.getCurrentLevel() < map.getMaxLevel()) {
+                    map.startNextLevel();
+                }
+                map.tick(input.getFrameTime());
+                ticks++;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%d ticks in %.1f ms, seed %d, level %d%n",
+                    ticks, elapsed / 1_000_000.0, input.getSeed(), map.getCurrentLevel());
+            System.out.printf("checksum %016x%n", checksum(map));
+            map.dispose();
+        }
+        System.exit(0);
+    }
+
+    private static long checksum(GameMap map) {
+        long hash = map.getCurrentLevel();
+        Player player = map.getPlayer();
+        hash = hash * 31 + Float.floatToIntBits(player.getX());
+        hash = hash * 31 + Float.floatToIntBits(player.getY());
+        hash = hash * 31 + (map.isGameOver() ? 1 : 0);
+        for (WildlifeVisitor visitor : map.getWildlifeVisitors()) {
+            hash = hash * 31 + Float.floatToIntBits(visitor.getX());
+            hash = hash * 31 + Float.floatToIntBits(visitor.getY());
+        }
+        return hash;
+    }
+}
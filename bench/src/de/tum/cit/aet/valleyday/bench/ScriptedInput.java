@@ -0,0 +1,49 @@
+package de.tum.cit.aet.valleyday.bench;
+
+import com.badlogic.gdx.Input;
+import de.tum.cit.aet.valleyday.map.InputSource;
+
+import java.util.Arrays;
+
+/**
+ * Keyboard state set by code instead of a real keyboard.
+ * Keys passed to {@link #tap(int)} count as "just pressed" until {@link #endFrame()}.
+ */
+public class ScriptedInput implements InputSource {
+    private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private final boolean[] justPressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+    public void press(int keycode) {
+        if (!pressed[keycode]) {
+            justPressed[keycode] = true;
+        }
+        pressed[keycode] = true;
+    }
+
+    public void release(int keycode) {
+        pressed[keycode] = false;
+    }
+
+    public void tap(int keycode) {
+        justPressed[keycode] = true;
+    }
+
+    public void releaseAll() {
+        Arrays.fill(pressed, false);
+    }
+
+    /** Call after every simulated frame, like libGDX does after render(). */
+    public void endFrame() {
+        Arrays.fill(justPressed, false);
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return pressed[keycode];
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        return justPressed[keycode];
+    }
+}
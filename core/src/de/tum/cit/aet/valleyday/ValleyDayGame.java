@@ -13,8 +13,28 @@ public class ValleyDayGame extends Game {
     public static final int WINDOW_WIDTH = 1280;
     public static final int WINDOW_HEIGHT = 720;
     public static final String TITLE = "Valley Day";
+    public static final int FOREGROUND_FPS = 60;
+    // While the world stands still (pause, overlays), see GameScreen
+    public static final int IDLE_FPS = 10;
 
     private SpriteBatch batch;
+    // Simulation auf eigenem Thread statt im Render-Loop (siehe SimulationThread)
+    private final boolean threadedSimulation;
+    // Datei für die Aufnahme der Eingaben (siehe ReplayRecorder), null = keine Aufnahme
+    private final String recordPath;
+
+    public ValleyDayGame() {
+        this(false);
+    }
+
+    public ValleyDayGame(boolean threadedSimulation) {
+        this(threadedSimulation, null);
+    }
+
+    public ValleyDayGame(boolean threadedSimulation, String recordPath) {
+        this.threadedSimulation = threadedSimulation;
+        this.recordPath = recordPath;
+    }
 
     @Override
     public void create() {
@@ -42,6 +62,14 @@ public SpriteBatch getBatch() {
         return batch;
     }
 
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    public String getRecordPath() {
+        return recordPath;
+    }
+
     // ========== REMOVED MAP PATH PARAMETER ==========
     public void startGame() {
         setScreen(new GameScreen(this));  // ← No parameter needed!
@@ -0,0 +1,247 @@
+package de.tum.cit.aet.valleyday.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures where the time of a frame goes, toggled in game with F3 (see {@link ProfilerOverlay}).
+ * <p>
+ * Code wraps a phase in {@link #begin(Phase)} / {@link #end(Phase)}; a phase may run several times
+ * per frame, the times add up. For every phase the profiler keeps the last {@link #HISTORY} frames
+ * and reports their median and 99th percentile. Per frame it also counts GL calls, texture binds and
+ * draw calls ({@link GLProfiler}), sprite batch flushes and the bytes the render thread allocated.
+ * <p>
+ * Everything runs on the render thread. While disabled, begin/end return right away.
+ */
+public class FrameProfiler {
+    public static final int HISTORY = 120;
+
+    public enum Phase {
+        INPUT("input", false),
+        TICK("tick", false),
+        // Due timers: crop growth, wildlife move/search, chaser spawn, end of day
+        TIMERS("timers", true),
+        PLAYER("player", true),
+        CHASER("chaser", true),
+        WILDLIFE("wildlife", true),
+        BEHAVIOUR("behaviour", true),
+        MOVERS("movers", true),
+        PHYSICS("physics", true),
+        ACTOR_INDEX("actor index", true),
+        TMX("tmx", false),
+        TILE_CACHE("tile cache", false),
+        GAMEPLAY("gameplay", false),
+        HUD("hud", false),
+        OVERLAY("overlays", false);
+
+        final String label;
+        /** Part of {@link #TICK}, so not stacked on top of it in the graph. */
+        final boolean tickPart;
+
+        Phase(String label, boolean tickPart) {
+            this.label = label;
+            this.tickPart = tickPart;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final SpriteBatch batch;
+    private final com.sun.management.ThreadMXBean threads = allocationCounter();
+    private GLProfiler glProfiler;
+    private boolean enabled = false;
+
+    // Current frame
+    private final long[] started = new long[PHASES.length];
+    private final long[] running = new long[PHASES.length];
+    private long frameStart;
+    private long allocatedAtStart;
+    private int flushesAtStart;
+
+    // Last HISTORY frames, written at cursor
+    private final long[][] phaseNanos = new long[PHASES.length][HISTORY];
+    private final long[] frameNanos = new long[HISTORY];
+    private final long[] allocatedBytes = new long[HISTORY];
+    private int cursor = 0;
+    private int frames = 0;
+
+    // Results of the last finished frame
+    private final long[] sorted = new long[HISTORY];
+    private final long[] phaseP50 = new long[PHASES.length];
+    private final long[] phaseP99 = new long[PHASES.length];
+    private long frameP50;
+    private long frameP99;
+    private long allocatedP50;
+    private long allocatedP99;
+    private int glCalls;
+    private int textureBinds;
+    private int drawCalls;
+    private int flushes;
+
+    /**
+     * @param batch The batch whose flushes are counted.
+     */
+    public FrameProfiler(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            if (glProfiler == null) glProfiler = new GLProfiler(Gdx.graphics);
+            glProfiler.enable();
+            // Alte Messungen würden die Perzentile verfälschen
+            frames = 0;
+            cursor = 0;
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    /** Whether the JVM can count allocated bytes per thread. */
+    public boolean isAllocationCounted() {
+        return threads != null;
+    }
+
+    public void beginFrame() {
+        if (!enabled) return;
+        Arrays.fill(running, 0);
+        glProfiler.reset();
+        flushesAtStart = batch.totalRenderCalls;
+        allocatedAtStart = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(Phase phase) {
+        if (!enabled) return;
+        started[phase.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        if (!enabled) return;
+        running[phase.ordinal()] += System.nanoTime() - started[phase.ordinal()];
+    }
+
+    /**
+     * Stores the frame and updates the percentiles. Call before drawing the overlay, so the overlay
+     * does not measure itself.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+        frameNanos[cursor] = System.nanoTime() - frameStart;
+        allocatedBytes[cursor] = threads != null ? threads.getCurrentThreadAllocatedBytes() - allocatedAtStart : 0;
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseNanos[i][cursor] = running[i];
+        }
+        glCalls = glProfiler.getCalls();
+        textureBinds = glProfiler.getTextureBindings();
+        drawCalls = glProfiler.getDrawCalls();
+        flushes = batch.totalRenderCalls - flushesAtStart;
+
+        cursor = (cursor + 1) % HISTORY;
+        frames = Math.min(frames + 1, HISTORY);
+
+        frameP50 = percentile(frameNanos, 50);
+        frameP99 = percentile(frameNanos, 99);
+        allocatedP50 = percentile(allocatedBytes, 50);
+        allocatedP99 = percentile(allocatedBytes, 99);
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseP50[i] = percentile(phaseNanos[i], 50);
+            phaseP99[i] = percentile(phaseNanos[i], 99);
+        }
+    }
+
+    private long percentile(long[] history, int percent) {
+        if (frames == 0) return 0;
+        System.arraycopy(history, 0, sorted, 0, frames);
+        Arrays.sort(sorted, 0, frames);
+        return sorted[Math.min(frames - 1, frames * percent / 100)];
+    }
+
+    // Results, times in nanoseconds
+
+    /** Number of frames in the history, up to {@link #HISTORY}. */
+    public int getFrameCount() {
+        return frames;
+    }
+
+    /** Frame time of the {@code age}-th last frame, 0 = the newest. */
+    public long getFrameNanos(int age) {
+        return frameNanos[index(age)];
+    }
+
+    public long getPhaseNanos(Phase phase, int age) {
+        return phaseNanos[phase.ordinal()][index(age)];
+    }
+
+    private int index(int age) {
+        return (cursor - 1 - age + HISTORY) % HISTORY;
+    }
+
+    public long getFrameP50() {
+        return frameP50;
+    }
+
+    public long getFrameP99() {
+        return frameP99;
+    }
+
+    public long getPhaseP50(Phase phase) {
+        return phaseP50[phase.ordinal()];
+    }
+
+    public long getPhaseP99(Phase phase) {
+        return phaseP99[phase.ordinal()];
+    }
+
+    /** Bytes the render thread allocated in the last frame. */
+    public long getAllocatedBytes() {
+        return allocatedBytes[index(0)];
+    }
+
+    public long getAllocatedP50() {
+        return allocatedP50;
+    }
+
+    public long getAllocatedP99() {
+        return allocatedP99;
+    }
+
+    public int getGlCalls() {
+        return glCalls;
+    }
+
+    public int getTextureBinds() {
+        return textureBinds;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /** How often the sprite batch flushed (one draw call each). */
+    public int getFlushes() {
+        return flushes;
+    }
+}
@@ -0,0 +1,155 @@
+package de.tum.cit.aet.valleyday.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * Draws the numbers of a {@link FrameProfiler} in the bottom left corner: a graph of the last frames
+ * with the time of each phase stacked, p50/p99 of every phase and the GL and allocation counters.
+ * <p>
+ * The text is built in one reused StringBuilder, so drawing the overlay adds no garbage of its own.
+ */
+public class ProfilerOverlay {
+    private static final float MARGIN = 10;
+    private static final float BAR_WIDTH = 2;
+    private static final float GRAPH_HEIGHT = 80;
+    private static final float LINE_HEIGHT = 16;
+    // 60 FPS budget
+    private static final long BUDGET_NANOS = 16_666_667L;
+    private static final FrameProfiler.Phase[] PHASES = FrameProfiler.Phase.values();
+    private static final Color[] COLORS = {
+            Color.GRAY, Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN,
+            Color.CYAN, Color.BLUE, Color.MAGENTA, Color.PINK,
+            Color.SALMON, Color.LIME, Color.TEAL, Color.SKY, Color.GOLD, Color.WHITE
+    };
+
+    private final FrameProfiler profiler;
+    private final StringBuilder text = new StringBuilder(64);
+
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public void render(SpriteBatch batch, ShapeRenderer shapes, BitmapFont font) {
+        int screenWidth = Gdx.graphics.getWidth();
+        int screenHeight = Gdx.graphics.getHeight();
+        int frames = profiler.getFrameCount();
+
+        float graphWidth = FrameProfiler.HISTORY * BAR_WIDTH;
+        float textHeight = (PHASES.length + 4) * LINE_HEIGHT;
+        float panelWidth = Math.max(graphWidth, 260) + 2 * MARGIN;
+        float panelHeight = GRAPH_HEIGHT + textHeight + 3 * MARGIN;
+        float graphX = 2 * MARGIN;
+        float graphY = 2 * MARGIN;
+
+        // Skala: doppeltes Budget oder p99, je nachdem was größer ist
+        float scale = GRAPH_HEIGHT / Math.max(2 * BUDGET_NANOS, profiler.getFrameP99());
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapes.getProjectionMatrix().setToOrtho2D(0, 0, screenWidth, screenHeight);
+        shapes.setProjectionMatrix(shapes.getProjectionMatrix());
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0, 0, 0, 0.7f);
+        shapes.rect(MARGIN, MARGIN, panelWidth, panelHeight);
+
+        // Newest frame on the right, the phases of a frame stacked from the bottom
+        for (int age = 0; age < frames; age++) {
+            float x = graphX + graphWidth - (age + 1) * BAR_WIDTH;
+            float y = graphY;
+            for (FrameProfiler.Phase phase : PHASES) {
+                if (phase.tickPart) continue;
+                float height = profiler.getPhaseNanos(phase, age) * scale;
+                if (height <= 0) continue;
+                shapes.setColor(COLORS[phase.ordinal()]);
+                shapes.rect(x, y, BAR_WIDTH, height);
+                y += height;
+            }
+            // Rest des Frames, der keiner Phase zugeordnet ist
+            float frameTop = graphY + profiler.getFrameNanos(age) * scale;
+            if (frameTop > y) {
+                shapes.setColor(0.3f, 0.3f, 0.3f, 1f);
+                shapes.rect(x, y, BAR_WIDTH, frameTop - y);
+            }
+        }
+        shapes.end();
+
+        shapes.begin(ShapeRenderer.ShapeType.Line);
+        shapes.setColor(Color.WHITE);
+        line(shapes, graphX, graphY + BUDGET_NANOS * scale, graphWidth);
+        shapes.setColor(Color.GREEN);
+        line(shapes, graphX, graphY + profiler.getFrameP50() * scale, graphWidth);
+        shapes.setColor(Color.RED);
+        line(shapes, graphX, graphY + profiler.getFrameP99() * scale, graphWidth);
+        shapes.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, screenWidth, screenHeight);
+        batch.setProjectionMatrix(batch.getProjectionMatrix());
+        batch.begin();
+        float y = graphY + GRAPH_HEIGHT + MARGIN + textHeight;
+
+        text.setLength(0);
+        text.append("frame  p50 ");
+        appendMillis(profiler.getFrameP50());
+        text.append("  p99 ");
+        appendMillis(profiler.getFrameP99());
+        text.append(" ms");
+        font.setColor(Color.WHITE);
+        font.draw(batch, text, graphX, y);
+        y -= LINE_HEIGHT;
+
+        for (FrameProfiler.Phase phase : PHASES) {
+            text.setLength(0);
+            text.append(phase.tickPart ? "    " : "  ").append(phase.label).append("  ");
+            appendMillis(profiler.getPhaseP50(phase));
+            text.append(" / ");
+            appendMillis(profiler.getPhaseP99(phase));
+            font.setColor(COLORS[phase.ordinal()]);
+            font.draw(batch, text, graphX, y);
+            y -= LINE_HEIGHT;
+        }
+
+        text.setLength(0);
+        text.append("GL calls ").append(profiler.getGlCalls())
+                .append("  binds ").append(profiler.getTextureBinds())
+                .append("  draws ").append(profiler.getDrawCalls())
+                .append("  flushes ").append(profiler.getFlushes());
+        font.setColor(Color.WHITE);
+        font.draw(batch, text, graphX, y);
+        y -= LINE_HEIGHT;
+
+        text.setLength(0);
+        if (profiler.isAllocationCounted()) {
+            text.append("alloc ").append(profiler.getAllocatedBytes() / 1024)
+                    .append(" KB/frame  p50 ").append(profiler.getAllocatedP50() / 1024)
+                    .append("  p99 ").append(profiler.getAllocatedP99() / 1024).append(" KB");
+        } else {
+            text.append("alloc n/a");
+        }
+        font.draw(batch, text, graphX, y);
+        y -= LINE_HEIGHT;
+
+        text.setLength(0);
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond()).append("  (F3 to hide)");
+        font.draw(batch, text, graphX, y);
+        batch.end();
+    }
+
+    private static void line(ShapeRenderer shapes, float x, float y, float width) {
+        shapes.line(x, y, x + width, y);
+    }
+
+    /** Appends nanoseconds as milliseconds with two decimals, without String.format. */
+    private void appendMillis(long nanos) {
+        long hundredths = (nanos + 5_000) / 10_000;
+        text.append(hundredths / 100).append('.');
+        long rest = hundredths % 100;
+        if (rest < 10) text.append('0');
+        text.append(rest);
+    }
+}
@@ -0,0 +1,14 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Gives an entity a {@link Behaviour} that decides its velocity every tick.
+ */
+public class AiComponent implements Component {
+    public final Behaviour behaviour;
+
+    public AiComponent(Behaviour behaviour) {
+        this.behaviour = behaviour;
+    }
+}
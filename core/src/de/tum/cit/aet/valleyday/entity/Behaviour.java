@@ -0,0 +1,8 @@
+package de.tum.cit.aet.valleyday.entity;
+
+/**
+ * Per-tick logic of an entity, run by {@link BehaviourSystem}.
+ */
+public interface Behaviour {
+    void tick(float frameTime);
+}
@@ -0,0 +1,36 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+
+/**
+ * Ticks the {@link Behaviour} of every entity with an {@link AiComponent}.
+ */
+public class BehaviourSystem extends IteratingSystem {
+    private static final ComponentMapper<AiComponent> ai = ComponentMapper.getFor(AiComponent.class);
+
+    private FrameProfiler profiler;
+
+    public BehaviourSystem(int priority) {
+        super(Family.all(AiComponent.class).get(), priority);
+    }
+
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.BEHAVIOUR);
+        super.update(deltaTime);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.BEHAVIOUR);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        ai.get(entity).behaviour.tick(deltaTime);
+    }
+}
@@ -0,0 +1,15 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * The Box2D body of an entity, see {@link Hitboxes}.
+ */
+public class HitboxComponent implements Component {
+    public final Body body;
+
+    public HitboxComponent(Body body) {
+        this.body = body;
+    }
+}
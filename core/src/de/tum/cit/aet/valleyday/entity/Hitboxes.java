@@ -0,0 +1,45 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Creates the Box2D bodies of moving entities that collide with something. Right now that is only the
+ * player; wildlife and the chaser collide with nothing and use the map's KinematicMover instead.
+ */
+public final class Hitboxes {
+    public static final float ACTOR_RADIUS = 0.3f;
+
+    private Hitboxes() {
+    }
+
+    /**
+     * A dynamic circle body at (x, y).
+     * @param category Collision category of the body.
+     * @param mask Categories the body collides with.
+     * @param owner Stored as the body's user data.
+     */
+    public static Body createActor(World world, float x, float y, short category, short mask, Object owner) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+        Body body = world.createBody(bodyDef);
+
+        CircleShape circle = new CircleShape();
+        circle.setRadius(ACTOR_RADIUS);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = circle;
+        fixtureDef.density = 1.0f;
+        fixtureDef.filter.categoryBits = category;
+        fixtureDef.filter.maskBits = mask;
+
+        body.createFixture(fixtureDef);
+        circle.dispose();
+        body.setUserData(owner);
+        return body;
+    }
+}
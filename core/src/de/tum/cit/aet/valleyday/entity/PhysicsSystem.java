@@ -0,0 +1,87 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+
+/**
+ * Moves entities with Box2D: hands changed velocities to the hitboxes, steps the world at a fixed
+ * 60 Hz and copies the new hitbox positions back into the {@link PositionComponent}s.
+ */
+public class PhysicsSystem extends EntitySystem {
+    private static final float TIME_STEP = 1f / 60f;
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+    // Höchstens so viele Physik-Schritte pro Tick, sonst schaukelt sich ein langsamer Frame auf
+    private static final int MAX_STEPS = 5;
+
+    private static final ComponentMapper<HitboxComponent> hitboxes = ComponentMapper.getFor(HitboxComponent.class);
+    private static final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private static final ComponentMapper<VelocityComponent> velocities = ComponentMapper.getFor(VelocityComponent.class);
+
+    private final World world;
+    private float accumulator = 0;
+    private ImmutableArray<Entity> entities;
+    private FrameProfiler profiler;
+
+    public PhysicsSystem(World world, int priority) {
+        super(priority);
+        this.world = world;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(HitboxComponent.class, PositionComponent.class, VelocityComponent.class).get());
+    }
+
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.PHYSICS);
+        step(deltaTime);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.PHYSICS);
+    }
+
+    private void step(float deltaTime) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            VelocityComponent velocity = velocities.get(entity);
+            if (velocity.changed) {
+                hitboxes.get(entity).body.setLinearVelocity(velocity.x, velocity.y);
+                velocity.changed = false;
+            }
+        }
+
+        accumulator += deltaTime;
+        int steps = 0;
+        while (accumulator >= TIME_STEP && steps < MAX_STEPS) {
+            world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            accumulator -= TIME_STEP;
+            steps++;
+        }
+        if (accumulator >= TIME_STEP) {
+            // Rest verwerfen: das Spiel läuft kurz langsamer statt immer weiter hinterherzuhinken
+            accumulator = 0;
+        }
+        if (steps == 0) return;
+
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            Body body = hitboxes.get(entity).body;
+            Vector2 position = body.getPosition();
+            PositionComponent target = positions.get(entity);
+            target.x = position.x;
+            target.y = position.y;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Where an entity is, in tiles. Copied from its hitbox after every physics step, so reading it is a
+ * plain field access instead of a call into Box2D.
+ */
+public class PositionComponent implements Component {
+    public float x;
+    public float y;
+
+    public PositionComponent(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -0,0 +1,20 @@
+package de.tum.cit.aet.valleyday.entity;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * The velocity an entity wants to move at, in tiles per second. Change it with {@link #set(float, float)}:
+ * {@link PhysicsSystem} only hands velocities that were set since the last step to the hitbox, so
+ * entities that keep their course cost nothing.
+ */
+public class VelocityComponent implements Component {
+    public float x;
+    public float y;
+    boolean changed;
+
+    public void set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        changed = true;
+    }
+}
@@ -1,25 +1,29 @@
 package de.tum.cit.aet.valleyday.map;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.CircleShape;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.World;
+import de.tum.cit.aet.valleyday.entity.AiComponent;
+import de.tum.cit.aet.valleyday.entity.Behaviour;
 import de.tum.cit.aet.valleyday.texture.Drawable;
 import de.tum.cit.aet.valleyday.texture.Textures;
 
 
-public class ChaserZombie implements Drawable {
+public class ChaserZombie implements Drawable, Behaviour {
     private float moveSpeed = 5.0f;  // Wird von GameMap gesetzt
 
-    private final Body hitbox;
+    // Geht durch Wände, braucht also keinen Box2D-Body
+    private final MoverComponent movement;
+    private final Entity entity = new Entity();
     private float targetX;
     private float targetY;
     private boolean active = false;
 
-    public ChaserZombie(World world, float startX, float startY) {
-        this.hitbox = createHitbox(world, startX, startY);
+    /**
+     * @param mover Where the chaser moves, it takes a slot there until {@link #removeFromMover()}.
+     */
+    public ChaserZombie(KinematicMover mover, float startX, float startY) {
+        this.movement = new MoverComponent(mover, mover.add(startX, startY));
+        entity.add(movement).add(new AiComponent(this));
         this.targetX = startX;
         this.targetY = startY;
     }
@@ -28,27 +32,6 @@ public void setMoveSpeed(float speed) {
         this.moveSpeed = speed;
     }
 
-    private Body createHitbox(World world, float startX, float startY) {
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set(startX, startY);
-        Body body = world.createBody(bodyDef);
-
-        CircleShape circle = new CircleShape();
-        circle.setRadius(0.3f);
-
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = circle;
-        fixtureDef.density = 1.0f;
-        fixtureDef.filter.categoryBits = GameMap.CATEGORY_WILDLIFE;
-        fixtureDef.filter.maskBits = GameMap.MASK_WILDLIFE;  // Kollidiert mit nichts (kann durch Wände gehen)
-
-        body.createFixture(fixtureDef);
-        circle.dispose();
-        body.setUserData(this);
-        return body;
-    }
-
     public void activate() {
         active = true;
     }
@@ -62,9 +45,10 @@ public void setTarget(float x, float y) {
         this.targetY = y;
     }
 
+    @Override
     public void tick(float frameTime) {
         if (!active) {
-            hitbox.setLinearVelocity(0, 0);
+            movement.mover.setVelocity(movement.slot, 0, 0);
             return;
         }
 
@@ -75,9 +59,9 @@ public void tick(float frameTime) {
         if (distance > 0.1f) {
             float vx = (dx / distance) * moveSpeed;
             float vy = (dy / distance) * moveSpeed;
-            hitbox.setLinearVelocity(vx, vy);
+            movement.mover.setVelocity(movement.slot, vx, vy);
         } else {
-            hitbox.setLinearVelocity(0, 0);
+            movement.mover.setVelocity(movement.slot, 0, 0);
         }
     }
 
@@ -88,15 +72,20 @@ public TextureRegion getCurrentAppearance() {
 
     @Override
     public float getX() {
-        return hitbox.getPosition().x;
+        return movement.mover.getX(movement.slot);
     }
 
     @Override
     public float getY() {
-        return hitbox.getPosition().y;
+        return movement.mover.getY(movement.slot);
+    }
+
+    /** Frees the chaser's mover slot when it is dropped. */
+    public void removeFromMover() {
+        movement.mover.remove(movement.slot);
     }
 
-    public Body getHitbox() {
-        return hitbox;
+    public Entity getEntity() {
+        return entity;
     }
 }
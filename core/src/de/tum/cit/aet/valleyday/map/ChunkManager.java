@@ -0,0 +1,178 @@
+package de.tum.cit.aet.valleyday.map;
+
+/**
+ * Splits the map into square chunks and decides which of them are live around a focus point (the player).
+ * <p>
+ * Chunks within the simulation radius are simulated: wildlife there ticks and has an active body.
+ * Chunks within the larger of both radii are loaded: their tiles exist and may be drawn if they are
+ * also within the render radius. Everything further away is unloaded. Radii are in chunks and
+ * measured as a square around the focus chunk, so the live area - and with it tick and memory cost -
+ * does not grow with the map.
+ * <p>
+ * The manager only tracks the state of each chunk. It reports state changes to its {@link Listener},
+ * which pages the actual data in and out.
+ */
+public class ChunkManager {
+    /** Edge length of a chunk in tiles. */
+    public static final int CHUNK_SIZE = 16;
+
+    private static final byte UNLOADED = 0;
+    private static final byte LOADED = 1;
+    private static final byte SIMULATED = 2;
+
+    /**
+     * Receives chunk state changes. Chunk indices are {@code chunkY * chunksX + chunkX}.
+     */
+    public interface Listener {
+        /** The chunk's tiles are needed now. */
+        void onChunkLoaded(int chunk);
+
+        /** The chunk's tiles may be dropped. */
+        void onChunkUnloaded(int chunk);
+
+        /** The chunk entered the simulation radius, things sleeping in it should wake up. */
+        void onChunkSimulated(int chunk);
+    }
+
+    private final int mapWidth;
+    private final int mapHeight;
+    private final int chunksX;
+    private final int chunksY;
+    private final byte[] states;
+    private final Listener listener;
+    private int simulationRadius;
+    private int renderRadius;
+    private int focusX = Integer.MIN_VALUE;
+    private int focusY = Integer.MIN_VALUE;
+
+    public ChunkManager(int mapWidth, int mapHeight, int simulationRadius, int renderRadius, Listener listener) {
+        if (simulationRadius < 0 || renderRadius < 0) {
+            throw new IllegalArgumentException("Radii must not be negative");
+        }
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.chunksX = (mapWidth + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunksY = (mapHeight + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.states = new byte[chunksX * chunksY];
+        this.simulationRadius = simulationRadius;
+        this.renderRadius = renderRadius;
+        this.listener = listener;
+    }
+
+    /**
+     * Moves the focus to (x, y). Only does work when the focus enters another chunk.
+     */
+    public void update(float x, float y) {
+        int chunkX = chunkX(x);
+        int chunkY = chunkY(y);
+        if (chunkX == focusX && chunkY == focusY) {
+            return;
+        }
+        focusX = chunkX;
+        focusY = chunkY;
+        refresh();
+    }
+
+    public void setRadii(int simulationRadius, int renderRadius) {
+        if (simulationRadius < 0 || renderRadius < 0) {
+            throw new IllegalArgumentException("Radii must not be negative");
+        }
+        this.simulationRadius = simulationRadius;
+        this.renderRadius = renderRadius;
+        if (focusX != Integer.MIN_VALUE) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        int loadRadius = Math.max(simulationRadius, renderRadius);
+
+        // Only the chunks around the old and the new focus can change, but the map is small in chunks
+        // (a 512x512 map has 1024) and this runs once per chunk crossing, so a full pass is fine
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                int distance = Math.max(Math.abs(cx - focusX), Math.abs(cy - focusY));
+                byte state = distance <= simulationRadius ? SIMULATED : distance <= loadRadius ? LOADED : UNLOADED;
+                int chunk = cy * chunksX + cx;
+                byte old = states[chunk];
+                if (state == old) continue;
+                states[chunk] = state;
+
+                if (old == UNLOADED) listener.onChunkLoaded(chunk);
+                if (state == SIMULATED) listener.onChunkSimulated(chunk);
+                if (state == UNLOADED) listener.onChunkUnloaded(chunk);
+            }
+        }
+    }
+
+    /** Whether things at (x, y) should be simulated. Positions off the map count for the nearest edge chunk. */
+    public boolean isSimulated(float x, float y) {
+        return states[chunkOf(x, y)] == SIMULATED;
+    }
+
+    public boolean isLoaded(int chunk) {
+        return states[chunk] != UNLOADED;
+    }
+
+    /** The chunk at (x, y), clamped to the map. */
+    public int chunkOf(float x, float y) {
+        return chunkY(y) * chunksX + chunkX(x);
+    }
+
+    public int getChunkCount() {
+        return states.length;
+    }
+
+    /** First tile column of the chunk. */
+    public int chunkStartX(int chunk) {
+        return (chunk % chunksX) * CHUNK_SIZE;
+    }
+
+    /** First tile row of the chunk. */
+    public int chunkStartY(int chunk) {
+        return (chunk / chunksX) * CHUNK_SIZE;
+    }
+
+    /** One past the last tile column of the chunk. */
+    public int chunkEndX(int chunk) {
+        return Math.min(mapWidth, chunkStartX(chunk) + CHUNK_SIZE);
+    }
+
+    /** One past the last tile row of the chunk. */
+    public int chunkEndY(int chunk) {
+        return Math.min(mapHeight, chunkStartY(chunk) + CHUNK_SIZE);
+    }
+
+    // Tile bounds of the render area, max values exclusive
+    public int getRenderMinX() {
+        return Math.max(0, (focusX - renderRadius) * CHUNK_SIZE);
+    }
+
+    public int getRenderMinY() {
+        return Math.max(0, (focusY - renderRadius) * CHUNK_SIZE);
+    }
+
+    public int getRenderMaxX() {
+        return Math.min(mapWidth, (focusX + renderRadius + 1) * CHUNK_SIZE);
+    }
+
+    public int getRenderMaxY() {
+        return Math.min(mapHeight, (focusY + renderRadius + 1) * CHUNK_SIZE);
+    }
+
+    public int getSimulationRadius() {
+        return simulationRadius;
+    }
+
+    public int getRenderRadius() {
+        return renderRadius;
+    }
+
+    private int chunkX(float x) {
+        return Math.max(0, Math.min(chunksX - 1, (int) Math.floor(x / CHUNK_SIZE)));
+    }
+
+    private int chunkY(float y) {
+        return Math.max(0, Math.min(chunksY - 1, (int) Math.floor(y / CHUNK_SIZE)));
+    }
+}
@@ -0,0 +1,164 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns the solid cells of a TMX map into a few Box2D rectangles.
+ * <p>
+ * A cell is solid if
+ * <ul>
+ *     <li>it has a tile on a layer named {@value #COLLISION_LAYER} or on a layer with the property
+ *     {@value #SOLID_PROPERTY} = true (such layers are hidden, they only describe collision), or</li>
+ *     <li>its tile on any layer has the tile property {@value #SOLID_PROPERTY} = true.</li>
+ * </ul>
+ * Solid cells are merged greedily into rectangles - as wide as possible, then as tall as possible -
+ * and all rectangles become fixtures of one static body, so a wall of any length costs one fixture.
+ */
+public final class CollisionCompiler {
+    public static final String COLLISION_LAYER = "Collision";
+    public static final String SOLID_PROPERTY = "solid";
+
+    /** A rectangle of solid cells, in tiles. */
+    public record Box(int x, int y, int width, int height) { }
+
+    private CollisionCompiler() {}
+
+    /**
+     * The solid cells of the map, indexed {@code y * width + x}. Without a map nothing is solid.
+     */
+    public static boolean[] solidCells(TiledMap map, int width, int height) {
+        boolean[] solid = new boolean[width * height];
+        if (map == null) {
+            return solid;
+        }
+
+        for (MapLayer layer : map.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+
+            boolean collisionLayer = COLLISION_LAYER.equals(layer.getName()) || isTrue(layer.getProperties());
+            if (collisionLayer) {
+                layer.setVisible(false);
+            }
+
+            int layerWidth = Math.min(width, tileLayer.getWidth());
+            int layerHeight = Math.min(height, tileLayer.getHeight());
+            for (int y = 0; y < layerHeight; y++) {
+                for (int x = 0; x < layerWidth; x++) {
+                    TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                    if (cell == null || cell.getTile() == null) continue;
+                    TiledMapTile tile = cell.getTile();
+                    if (collisionLayer || isTrue(tile.getProperties())) {
+                        solid[y * width + x] = true;
+                    }
+                }
+            }
+        }
+        return solid;
+    }
+
+    private static boolean isTrue(MapProperties properties) {
+        if (properties == null) return false;
+        // Typed bool properties come as Boolean, untyped ones as String
+        Object value = properties.get(SOLID_PROPERTY);
+        return Boolean.TRUE.equals(value) || "true".equals(value);
+    }
+
+    /** Marks the outermost ring of cells as solid, the map border. */
+    public static void addBorder(boolean[] solid, int width, int height) {
+        for (int x = 0; x < width; x++) {
+            solid[x] = true;
+            solid[(height - 1) * width + x] = true;
+        }
+        for (int y = 0; y < height; y++) {
+            solid[y * width] = true;
+            solid[y * width + width - 1] = true;
+        }
+    }
+
+    /**
+     * Covers the solid cells with non-overlapping rectangles. Not always the minimum, but close for
+     * the straight walls maps are made of, and linear in the number of cells.
+     */
+    public static List<Box> merge(boolean[] solid, int width, int height) {
+        List<Box> boxes = new ArrayList<>();
+        boolean[] covered = new boolean[solid.length];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (!solid[cell] || covered[cell]) continue;
+
+                // So breit wie möglich ...
+                int boxWidth = 1;
+                while (x + boxWidth < width && solid[cell + boxWidth] && !covered[cell + boxWidth]) {
+                    boxWidth++;
+                }
+
+                // ... dann so hoch wie möglich, solange die ganze Zeile passt
+                int boxHeight = 1;
+                while (y + boxHeight < height && rowFree(solid, covered, (y + boxHeight) * width + x, boxWidth)) {
+                    boxHeight++;
+                }
+
+                for (int row = y; row < y + boxHeight; row++) {
+                    for (int column = x; column < x + boxWidth; column++) {
+                        covered[row * width + column] = true;
+                    }
+                }
+                boxes.add(new Box(x, y, boxWidth, boxHeight));
+            }
+        }
+        return boxes;
+    }
+
+    private static boolean rowFree(boolean[] solid, boolean[] covered, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            if (!solid[i] || covered[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Builds one static body with a fixture per box.
+     * @return The body, or null if there are no boxes.
+     */
+    public static Body build(World world, List<Box> boxes, short category, short mask) {
+        if (boxes.isEmpty()) {
+            return null;
+        }
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1.0f;
+        fixtureDef.filter.categoryBits = category;
+        fixtureDef.filter.maskBits = mask;
+
+        Vector2 center = new Vector2();
+        for (Box box : boxes) {
+            center.set(box.x() + box.width() / 2f, box.y() + box.height() / 2f);
+            shape.setAsBox(box.width() / 2f, box.height() / 2f, center, 0);
+            body.createFixture(fixtureDef);
+        }
+        shape.dispose();
+        return body;
+    }
+}
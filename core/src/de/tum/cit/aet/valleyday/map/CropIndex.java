@@ -0,0 +1,184 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.util.Arrays;
+
+/**
+ * The set of tiles holding a mature crop, bucketed by 8x8 tile blocks.
+ * <p>
+ * The map keeps it up to date as crops ripen, rot, get harvested or stolen, so wildlife can
+ * ask for the nearest mature crop without scanning the whole map. A nearest query walks the
+ * buckets in growing rings around the start point and stops as soon as no closer bucket can exist.
+ * Tiles are identified by their index {@code y * width + x}.
+ */
+public class CropIndex {
+    private static final int BUCKET_SIZE = 8;
+
+    private final int width;
+    private final int height;
+    private final int bucketsX;
+    private final int bucketsY;
+    private final int[][] bucketTiles;
+    private final int[] bucketSizes;
+    /** Position of each tile inside its bucket, -1 if the tile is not in the index. */
+    private final int[] slotOf;
+    private int size;
+    private int version;
+
+    // Scratch state of the running findNearest() query
+    private int nearestTile;
+    private float nearestDist;
+
+    public CropIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.bucketsX = (width + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        this.bucketsY = (height + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        this.bucketTiles = new int[bucketsX * bucketsY][];
+        this.bucketSizes = new int[bucketsX * bucketsY];
+        this.slotOf = new int[width * height];
+        Arrays.fill(slotOf, -1);
+    }
+
+    /**
+     * Adds or removes the tile depending on whether it holds a mature crop.
+     */
+    public void update(int x, int y, boolean mature) {
+        if (mature) {
+            add(x, y);
+        } else {
+            remove(x, y);
+        }
+    }
+
+    public void add(int x, int y) {
+        int tile = y * width + x;
+        if (slotOf[tile] >= 0) {
+            return;
+        }
+        int bucket = bucketOf(x, y);
+        int[] tiles = bucketTiles[bucket];
+        if (tiles == null) {
+            tiles = bucketTiles[bucket] = new int[4];
+        } else if (bucketSizes[bucket] == tiles.length) {
+            tiles = bucketTiles[bucket] = Arrays.copyOf(tiles, tiles.length * 2);
+        }
+        slotOf[tile] = bucketSizes[bucket];
+        tiles[bucketSizes[bucket]++] = tile;
+        size++;
+        version++;
+    }
+
+    public void remove(int x, int y) {
+        int tile = y * width + x;
+        int slot = slotOf[tile];
+        if (slot < 0) {
+            return;
+        }
+        // Swap with the last tile of the bucket to keep removal O(1)
+        int bucket = bucketOf(x, y);
+        int[] tiles = bucketTiles[bucket];
+        int last = tiles[--bucketSizes[bucket]];
+        tiles[slot] = last;
+        slotOf[last] = slot;
+        slotOf[tile] = -1;
+        size--;
+        version++;
+    }
+
+    public boolean contains(int x, int y) {
+        return slotOf[y * width + x] >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Increases on every change, so callers can tell whether results they cached are still valid. */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Finds the mature crop whose tile centre is closest to (x, y).
+     * @return The tile index, or -1 if there is no mature crop.
+     */
+    public int findNearest(float x, float y) {
+        if (size == 0) {
+            return -1;
+        }
+
+        // Clamping is fine for points off the map: it only makes the distance bound below smaller
+        int startX = clamp((int) Math.floor(x / BUCKET_SIZE), bucketsX);
+        int startY = clamp((int) Math.floor(y / BUCKET_SIZE), bucketsY);
+        int maxRing = Math.max(Math.max(startX, bucketsX - 1 - startX), Math.max(startY, bucketsY - 1 - startY));
+
+        nearestTile = -1;
+        nearestDist = Float.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every bucket in this ring is at least (ring - 1) buckets away from the start point
+            if (nearestTile >= 0 && ring > 0) {
+                float bound = (ring - 1) * BUCKET_SIZE;
+                if (bound * bound > nearestDist) {
+                    break;
+                }
+            }
+
+            for (int bx = startX - ring; bx <= startX + ring; bx++) {
+                if (bx < 0 || bx >= bucketsX) continue;
+                if (bx == startX - ring || bx == startX + ring) {
+                    // Left and right edge of the ring: the whole column
+                    for (int by = startY - ring; by <= startY + ring; by++) {
+                        scanBucket(bx, by, x, y);
+                    }
+                } else {
+                    // Inner columns: only the top and bottom bucket
+                    scanBucket(bx, startY - ring, x, y);
+                    scanBucket(bx, startY + ring, x, y);
+                }
+            }
+        }
+        return nearestTile;
+    }
+
+    private void scanBucket(int bx, int by, float x, float y) {
+        if (by < 0 || by >= bucketsY) {
+            return;
+        }
+        int bucket = by * bucketsX + bx;
+        int[] tiles = bucketTiles[bucket];
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            int tile = tiles[i];
+            float dx = tile % width + 0.5f - x;
+            float dy = tile / width + 0.5f - y;
+            float dist = dx * dx + dy * dy;
+            if (dist < nearestDist) {
+                nearestDist = dist;
+                nearestTile = tile;
+            }
+        }
+    }
+
+    public int tileX(int tile) {
+        return tile % width;
+    }
+
+    public int tileY(int tile) {
+        return tile / width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private int bucketOf(int x, int y) {
+        return (y / BUCKET_SIZE) * bucketsX + x / BUCKET_SIZE;
+    }
+
+    private static int clamp(int value, int count) {
+        return Math.max(0, Math.min(count - 1, value));
+    }
+}
@@ -0,0 +1,185 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.util.Arrays;
+
+/**
+ * A shared distance map towards the nearest goal tile (the mature crops).
+ * <p>
+ * Every walkable tile stores its number of steps to the closest goal, computed with one
+ * breadth-first search from all goals at once. A visitor on any tile only has to look at its
+ * four neighbours and step onto the lowest one, so hundreds of visitors cost one search per
+ * change instead of one search per visitor.
+ * <p>
+ * Adding a goal or freeing a tile only lowers distances and is relaxed in place from that tile.
+ * Removing a goal or blocking a tile can raise distances anywhere, so the field is marked dirty
+ * and rebuilt once on the next query.
+ */
+public class FlowField {
+    /** Distance of tiles that cannot reach any goal. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int width;
+    private final int height;
+    private final int[] distance;
+    private final boolean[] goal;
+    private final boolean[] blocked;
+    /** BFS queue of tile indices. Every tile is queued at most once per pass, so it never wraps. */
+    private final int[] queue;
+    private boolean dirty = false;
+    private int version = 0;
+
+    public FlowField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.distance = new int[width * height];
+        this.goal = new boolean[width * height];
+        this.blocked = new boolean[width * height];
+        this.queue = new int[width * height];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    public void setGoal(int x, int y, boolean isGoal) {
+        int tile = y * width + x;
+        if (goal[tile] == isGoal) {
+            return;
+        }
+        goal[tile] = isGoal;
+        if (isGoal && !blocked[tile] && !dirty) {
+            distance[tile] = 0;
+            relaxFrom(tile);
+        } else {
+            dirty = true;
+        }
+    }
+
+    public void setBlocked(int x, int y, boolean isBlocked) {
+        int tile = y * width + x;
+        if (blocked[tile] == isBlocked) {
+            return;
+        }
+        blocked[tile] = isBlocked;
+        if (!isBlocked && !dirty) {
+            // A freed tile takes the best distance of its neighbours and passes it on
+            int best = goal[tile] ? 0 : neighbourMinimum(x, y);
+            if (best != UNREACHABLE) {
+                distance[tile] = goal[tile] ? 0 : best + 1;
+                relaxFrom(tile);
+            }
+        } else {
+            dirty = true;
+        }
+    }
+
+    /**
+     * The neighbour to step onto from (x, y) to get closer to a goal.
+     * @return The tile index of the neighbour, or -1 if (x, y) is off the field, a goal itself or cut off from all goals.
+     */
+    public int nextStep(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return -1;
+        }
+        ensureBuilt();
+        int here = distance[y * width + x];
+        if (here == 0 || here == UNREACHABLE) {
+            return -1;
+        }
+
+        int best = -1;
+        int bestDistance = here;
+        if (x > 0 && distance[y * width + x - 1] < bestDistance) {
+            best = y * width + x - 1;
+            bestDistance = distance[best];
+        }
+        if (x < width - 1 && distance[y * width + x + 1] < bestDistance) {
+            best = y * width + x + 1;
+            bestDistance = distance[best];
+        }
+        if (y > 0 && distance[(y - 1) * width + x] < bestDistance) {
+            best = (y - 1) * width + x;
+            bestDistance = distance[best];
+        }
+        if (y < height - 1 && distance[(y + 1) * width + x] < bestDistance) {
+            best = (y + 1) * width + x;
+        }
+        return best;
+    }
+
+    /** Steps from (x, y) to the nearest goal, or {@link #UNREACHABLE}. */
+    public int getDistance(int x, int y) {
+        ensureBuilt();
+        return distance[y * width + x];
+    }
+
+    /** Increases whenever distances change, so visitors know when to re-read their next step. */
+    public int getVersion() {
+        ensureBuilt();
+        return version;
+    }
+
+    public int tileX(int tile) {
+        return tile % width;
+    }
+
+    public int tileY(int tile) {
+        return tile / width;
+    }
+
+    /** Rebuilds the field now if a change left it dirty. Queries call this on their own. */
+    public void ensureBuilt() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        Arrays.fill(distance, UNREACHABLE);
+
+        int tail = 0;
+        for (int tile = 0; tile < goal.length; tile++) {
+            if (goal[tile] && !blocked[tile]) {
+                distance[tile] = 0;
+                queue[tail++] = tile;
+            }
+        }
+        spread(0, tail);
+    }
+
+    private void relaxFrom(int tile) {
+        queue[0] = tile;
+        spread(0, 1);
+    }
+
+    /**
+     * Breadth-first pass over the queue: every neighbour that gets a shorter distance is queued again.
+     */
+    private void spread(int head, int tail) {
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            int next = distance[tile] + 1;
+
+            if (x > 0) tail = lower(tile - 1, next, tail);
+            if (x < width - 1) tail = lower(tile + 1, next, tail);
+            if (y > 0) tail = lower(tile - width, next, tail);
+            if (y < height - 1) tail = lower(tile + width, next, tail);
+        }
+        version++;
+    }
+
+    private int lower(int tile, int newDistance, int tail) {
+        if (blocked[tile] || distance[tile] <= newDistance) {
+            return tail;
+        }
+        distance[tile] = newDistance;
+        queue[tail++] = tile;
+        return tail;
+    }
+
+    private int neighbourMinimum(int x, int y) {
+        int min = UNREACHABLE;
+        if (x > 0) min = Math.min(min, distance[y * width + x - 1]);
+        if (x < width - 1) min = Math.min(min, distance[y * width + x + 1]);
+        if (y > 0) min = Math.min(min, distance[(y - 1) * width + x]);
+        if (y < height - 1) min = Math.min(min, distance[(y + 1) * width + x]);
+        return min;
+    }
+}
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.valleyday.map;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.files.FileHandle;
@@ -10,14 +11,21 @@
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.IntMap;
 import de.tum.cit.aet.valleyday.ValleyDayGame;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+import de.tum.cit.aet.valleyday.entity.BehaviourSystem;
+import de.tum.cit.aet.valleyday.entity.PhysicsSystem;
+import de.tum.cit.aet.valleyday.texture.Drawable;
+import de.tum.cit.aet.valleyday.texture.SpriteAtlas;
 import de.tum.cit.aet.valleyday.texture.Textures;
 import de.tum.cit.aet.valleyday.tiles.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 import java.util.Random;
 
 public class GameMap {
@@ -37,11 +45,9 @@ public enum GameOverReason {
 
     private GameOverReason gameOverReason = GameOverReason.NONE;
 
-    private static final float TIME_STEP = 1f / 60f;
-    private static final int VELOCITY_ITERATIONS = 6;
-    private static final int POSITION_ITERATIONS = 2;
-    private static final int MAP_WIDTH = 32;
-    private static final int MAP_HEIGHT = 32;
+    // Used when the TMX map cannot be loaded, otherwise the size comes from the TMX file
+    private static final int DEFAULT_MAP_WIDTH = 32;
+    private static final int DEFAULT_MAP_HEIGHT = 32;
 
     // Collision Categories für Box2D Filtering
     public static final short CATEGORY_WALL = 0x0001;
@@ -51,7 +57,7 @@ public enum GameOverReason {
     // Collision Masks - definiert womit jede Kategorie kollidiert
     public static final short MASK_WALL = CATEGORY_PLAYER;  // Wände kollidieren nur mit Spieler
     public static final short MASK_PLAYER = CATEGORY_WALL;  // Spieler kollidiert mit Wänden
-    public static final short MASK_WILDLIFE = 0;  // Wildlife kollidiert mit nichts
+    public static final short MASK_WILDLIFE = 0;  // Wildlife kollidiert mit nichts (bewegt sich über den KinematicMover)
 
     // TMX maps - index 0=map-1, 1=map-3, 2=map-4
     private static final String[] TMX_MAPS = {
@@ -101,16 +107,131 @@ public enum GameOverReason {
     private boolean levelComplete = false;
     private boolean gameWon = false;
 
-
-    private float physicsTime = 0;
     private final ValleyDayGame game;
+    private final InputSource input;
+    private final boolean renderable;
     private final World world;
+    // Einzige Zufallsquelle der Simulation: Spawns, Objekte und die Generatoren der Visitors
+    private final long seed;
+    private final Random random;
+    private ReplayRecorder recorder;
+    // Entities of player, chaser and awake wildlife; systems run in priority order every tick
+    private final Engine engine = new Engine();
+    private final BehaviourSystem behaviourSystem;
+    private final PlayerInteractionSystem interactionSystem;
+    private final WildlifeSystem wildlifeSystem;
+    private final KinematicSystem kinematicSystem;
+    private final PhysicsSystem physicsSystem;
+    // Only set while profiling (F3), see FrameProfiler
+    private FrameProfiler profiler;
+    // Wildlife and chaser collide with nothing and move here instead of in the Box2D world
+    private final KinematicMover movers = new KinematicMover(256);
     private final Player player;
-    private final Tile[][] tiles;
-    private final GroundTile[][] groundLayer;
+    private int mapWidth;
+    private int mapHeight;
+    private TileStorage tiles;
+
+    // Scheduler for everything that happens after a delay: crop growth, wildlife timers, chaser spawn, daylight
+    private final TimingWheel scheduler = new TimingWheel();
+    // Growth timer per cell index, created on the first planting and reused for every crop after that
+    private final IntMap<TimingWheel.Event> cropTimers = new IntMap<>();
+    // Mature crops, for wildlife looking for something to steal
+    private CropIndex cropIndex;
+    // Walking distance to the nearest mature crop, wildlife follows it downhill
+    private FlowField cropFlowField;
+    private final SoilListener soilListener = new SoilListener() {
+        @Override
+        public void onCropPlanted(int x, int y) {
+            int cell = y * mapWidth + x;
+            TimingWheel.Event timer = cropTimers.get(cell);
+            if (timer == null) {
+                timer = new TimingWheel.Event(() -> tiles.growCrop(x, y));
+                cropTimers.put(cell, timer);
+            }
+            scheduler.schedule(timer, Crop.TIME_PER_STAGE);
+            updateMatureCrop(x, y, tiles.hasMatureCrop(x, y));
+        }
+
+        @Override
+        public void onCropStageChanged(int x, int y) {
+            updateMatureCrop(x, y, tiles.hasMatureCrop(x, y));
+
+            TimingWheel.Event timer = cropTimers.get(y * mapWidth + x);
+            if (timer == null) return;
+
+            // Rotten crops stop growing until they are watered
+            if (tiles.getCropStage(x, y) == Crop.GrowthStage.ROTTEN) {
+                scheduler.cancel(timer);
+            } else if (!timer.isPending()) {
+                scheduler.schedule(timer, Crop.TIME_PER_STAGE);
+            }
+        }
+
+        @Override
+        public void onCropRemoved(int x, int y) {
+            updateMatureCrop(x, y, false);
+
+            // Timer bleibt für die nächste Pflanze auf dieser Zelle
+            TimingWheel.Event timer = cropTimers.get(y * mapWidth + x);
+            if (timer != null) {
+                scheduler.cancel(timer);
+            }
+        }
+
+        private void updateMatureCrop(int x, int y, boolean mature) {
+            cropIndex.update(x, y, mature);
+            cropFlowField.setGoal(x, y, mature);
+        }
+    };
+    // All walls of the map in one static body, built by the CollisionCompiler
+    private Body wallBody;
+    // Solid cells the wall body was built from, to keep it when the next map has the same walls
+    private boolean[] wallCells;
     private final List<GameObject> gameObjects;
+    // Same objects by position, so drawing only looks at the visible ones
+    private static final float OBJECT_CELL_SIZE = 8.0f;
+    private final SpatialHash<GameObject> objectIndex = new SpatialHash<>(OBJECT_CELL_SIZE, 256);
+    // Wildlife in simulated chunks, the rest sleeps in sleepingWildlife until its chunk is simulated again
     private final List<WildlifeVisitor> wildlifeVisitors;
 
+    // Chunk streaming: only the area around the player has running wildlife and gets drawn
+    private static final int SIMULATION_RADIUS = 3;  // in Chunks
+    private static final int RENDER_RADIUS = 2;      // in Chunks
+    private ChunkManager chunkManager;
+    private final List<List<WildlifeVisitor>> sleepingWildlife = new ArrayList<>();
+    private final ChunkManager.Listener chunkListener = new ChunkManager.Listener() {
+        // Tiles live in the TileStorage at two bytes per cell, there is nothing worth paging out
+        @Override
+        public void onChunkLoaded(int chunk) {}
+
+        @Override
+        public void onChunkUnloaded(int chunk) {}
+
+        @Override
+        public void onChunkSimulated(int chunk) {
+            List<WildlifeVisitor> sleeping = sleepingWildlife.get(chunk);
+            if (sleeping == null) return;
+            for (int i = 0; i < sleeping.size(); i++) {
+                WildlifeVisitor visitor = sleeping.get(i);
+                visitor.wake();
+                engine.addEntity(visitor.getEntity());
+                wildlifeVisitors.add(visitor);
+                wildlifeEntries.add(actorIndex.insert(visitor, visitor.getX(), visitor.getY()));
+            }
+            sleeping.clear();
+        }
+    };
+
+    // Spatial index over player, chaser and wildlife for proximity queries
+    private static final float ACTOR_CELL_SIZE = 2.0f;
+    private static final float CONTACT_RADIUS = 0.6f;
+    private static final float SHOO_RANGE = 3.0f;
+    private final SpatialHash<Drawable> actorIndex = new SpatialHash<>(ACTOR_CELL_SIZE, 4096);
+    private final List<SpatialHash.Entry<Drawable>> wildlifeEntries = new ArrayList<>();
+    private final SpatialHash.Entry<Drawable> playerEntry;
+    private SpatialHash.Entry<Drawable> chaserEntry;
+    private final List<Drawable> nearbyActors = new ArrayList<>();
+
     // TMX rendering
     private TiledMap tiledMap;
     private OrthogonalTiledMapRenderer tiledMapRenderer;
@@ -118,26 +239,62 @@ public enum GameOverReason {
 
     // Game Over state
     private boolean gameOver = false;
+    // Endless mode: contacts and the daylight timer never end the game (headless runs, soak tests)
+    private boolean endless = false;
 
     // Chaser Zombie System
     private ChaserZombie chaserZombie;
+    private final TimingWheel.Event chaserSpawnTimer = new TimingWheel.Event(this::spawnChaserZombie);
     private float gameTime = 0;
     private static final float CHASER_SPAWN_DELAY = 5.0f;
     private static final float CHASER_FOLLOW_DELAY = 5.0f;
     private static final float POSITION_RECORD_INTERVAL = 0.1f;
     private float positionRecordTimer = 0;
 
-    // Position History für den Chaser (speichert Positionen mit Zeitstempel)
-    private final Queue<float[]> positionHistory = new LinkedList<>();
+    // Position History für den Chaser (speichert Positionen mit Zeitstempel), mit Reserve über die 5 Sekunden hinaus
+    private static final int POSITION_HISTORY_CAPACITY = (int) (CHASER_FOLLOW_DELAY / POSITION_RECORD_INTERVAL) + 16;
+    private final PositionHistory positionHistory = new PositionHistory(POSITION_HISTORY_CAPACITY);
+    private final Vector2 chaserTarget = new Vector2();
 
     // Daylight Countdown Timer - 5 Minuten pro Level
     private static final float LEVEL_TIME_LIMIT = 5 * 60f;  // 5 Minuten in Sekunden
-    private float remainingTime = LEVEL_TIME_LIMIT;
+    private final TimingWheel.Event dayEndTimer = new TimingWheel.Event(this::endDay);
 
 
     public GameMap(ValleyDayGame game) {
+        this(game, InputSource.GDX, true);
+    }
+
+    /**
+     * Creates a map with a custom input source.
+     * @param input Where player and interaction input is read from.
+     * @param renderable Whether to create the TMX renderer. Headless runs have no GL context and pass false.
+     */
+    public GameMap(ValleyDayGame game, InputSource input, boolean renderable) {
+        this(game, input, renderable, System.nanoTime());
+    }
+
+    /**
+     * Creates a map whose randomness all comes from {@code seed}. With the same seed and the same
+     * input per tick, two maps run exactly the same, see {@link ReplayRecorder}.
+     */
+    public GameMap(ValleyDayGame game, InputSource input, boolean renderable, long seed) {
         this.game = game;
+        this.input = input;
+        this.renderable = renderable;
+        this.seed = seed;
+        this.random = new Random(seed);
         this.world = new World(Vector2.Zero, true);
+        this.behaviourSystem = new BehaviourSystem(0);
+        this.interactionSystem = new PlayerInteractionSystem(this, 1);
+        this.wildlifeSystem = new WildlifeSystem(this, 2);
+        this.kinematicSystem = new KinematicSystem(movers, 3);
+        this.physicsSystem = new PhysicsSystem(world, 4);
+        engine.addSystem(behaviourSystem);
+        engine.addSystem(interactionSystem);
+        engine.addSystem(wildlifeSystem);
+        engine.addSystem(kinematicSystem);
+        engine.addSystem(physicsSystem);
 
         // Start at Level 1, get map index from level mapping
         this.currentLevel = 1;
@@ -147,27 +304,13 @@ public GameMap(ValleyDayGame game) {
         float entranceX = MAP_ENTRANCES[currentMapIndex][0];
         float entranceY = MAP_ENTRANCES[currentMapIndex][1];
 
-        this.player = new Player(this.world, entranceX, entranceY);
-        this.tiles = new Tile[MAP_WIDTH][MAP_HEIGHT];
-        this.groundLayer = new GroundTile[MAP_WIDTH][MAP_HEIGHT];
+        this.player = new Player(this.world, entranceX, entranceY, input);
+        this.playerEntry = actorIndex.insert(player, entranceX, entranceY);
+        engine.addEntity(player.getEntity());
         this.gameObjects = new ArrayList<>();
         this.wildlifeVisitors = new ArrayList<>();
 
-        // Initialize ground layer
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
-                groundLayer[x][y] = new GroundTile(x, y, MAP_WIDTH, MAP_HEIGHT);
-            }
-        }
-
-        // Initialize tiles with SoilTile
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
-                tiles[x][y] = new SoilTile(x, y);
-            }
-        }
-
-        // Load TMX map for current level
+        // Load TMX map for current level, the tile grid is sized after it
         loadCurrentLevelMap();
     }
 
@@ -177,16 +320,46 @@ private void loadCurrentLevelMap() {
         String tmxPath = TMX_MAPS[currentMapIndex];
 
         Gdx.app.log("MapLoader", "Loading Level " + currentLevel + " - TMX map: " + tmxPath);
+        loadMap(tmxPath);
+    }
+
+    /**
+     * Replaces the current level's map with another TMX file, e.g. a generated one for benchmarks.
+     * Level, player position and crops on tiles that still exist are kept.
+     */
+    public void loadCustomMap(String tmxPath) {
+        Gdx.app.log("MapLoader", "Loading custom TMX map: " + tmxPath);
+        unloadTmxMap();
+        loadMap(tmxPath);
+    }
+
+    private void loadMap(String tmxPath) {
+        // Actors of the previous level free their mover slots before the grid (and with it the
+        // sleeping wildlife) is replaced
+        removeChaserZombie();
+        removeAllWildlife();
 
         // Load the TMX map
         loadTmxMap(tmxPath);
 
-        // Create walls from fence tiles (if needed)
+        // Tiles, ground layer and walls follow the size of the TMX map
+        if (tiledMap != null) {
+            resizeGrid(tiledMap.getProperties().get("width", DEFAULT_MAP_WIDTH, Integer.class),
+                    tiledMap.getProperties().get("height", DEFAULT_MAP_HEIGHT, Integer.class));
+        } else {
+            resizeGrid(DEFAULT_MAP_WIDTH, DEFAULT_MAP_HEIGHT);
+        }
+        chunkManager.update(player.getX(), player.getY());
         createWallBodies();
 
         // Spawn objects and wildlife
         spawnGameObjects();
         spawnWildlife();
+        Gdx.app.log("MapLoader", "World has " + world.getBodyCount() + " bodies, " + movers.getCount() + " movers");
+
+        // Chaser kommt nach 5 Sekunden, der Tag endet nach 5 Minuten
+        scheduler.schedule(chaserSpawnTimer, CHASER_SPAWN_DELAY);
+        scheduler.schedule(dayEndTimer, LEVEL_TIME_LIMIT);
     }
 
     private void loadTmxMap(String tmxPath) {
@@ -198,7 +371,11 @@ private void loadTmxMap(String tmxPath) {
             }
 
             tiledMap = new TmxMapLoader().load(tmxPath);
-            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap, UNIT_SCALE);
+            if (renderable) {
+                // Tiles vom Atlas zeichnen, dann teilen sich TMX und Sprites eine Textur
+                SpriteAtlas.useFor(tiledMap);
+                tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap, UNIT_SCALE);
+            }
             Gdx.app.log("MapLoader", "✅ TMX map loaded successfully: " + tmxPath);
 
         } catch (Exception e) {
@@ -209,6 +386,17 @@ private void loadTmxMap(String tmxPath) {
         }
     }
 
+    private void unloadTmxMap() {
+        if (tiledMap != null) {
+            tiledMap.dispose();
+            tiledMap = null;
+        }
+        if (tiledMapRenderer != null) {
+            tiledMapRenderer.dispose();
+            tiledMapRenderer = null;
+        }
+    }
+
     public void renderTmxBackground(OrthographicCamera camera) {
         if (tiledMapRenderer != null) {
             tiledMapRenderer.setView(camera);
@@ -216,122 +404,287 @@ public void renderTmxBackground(OrthographicCamera camera) {
         }
     }
 
-    private void createWallBodies() {
-        // Nur die äußeren Ränder der Map als Wände erstellen (Zeile/Spalte 0 und 31)
-        // Der Spieler kann sich frei innerhalb der Map bewegen
-
-        // Oberer und unterer Rand
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            createWallBody(x, 0);           // Unterer Rand (y=0)
-            createWallBody(x, MAP_HEIGHT - 1);  // Oberer Rand (y=31)
+    /**
+     * Allocates the tile storage and the crop lookups for a map of the given size.
+     * Keeps the existing tiles (and their crops) if the size did not change.
+     */
+    private void resizeGrid(int width, int height) {
+        if (tiles != null && width == mapWidth && height == mapHeight) {
+            return;
         }
 
-        // Linker und rechter Rand (ohne Ecken, die sind schon oben erstellt)
-        for (int y = 1; y < MAP_HEIGHT - 1; y++) {
-            createWallBody(0, y);           // Linker Rand (x=0)
-            createWallBody(MAP_WIDTH - 1, y);  // Rechter Rand (x=31)
+        // Alte Tiles abmelden, ihre Wachstums-Timer laufen sonst weiter
+        for (TimingWheel.Event timer : cropTimers.values()) {
+            scheduler.cancel(timer);
+        }
+        cropTimers.clear();
+        if (tiles != null) {
+            tiles.setListener(null);
         }
 
-        Gdx.app.log("MapLoader", "Wall bodies created for map borders only");
+        mapWidth = width;
+        mapHeight = height;
+        tiles = new TileStorage(width, height);
+        tiles.setListener(soilListener);
+        cropIndex = new CropIndex(width, height);
+        cropFlowField = new FlowField(width, height);
+
+        chunkManager = new ChunkManager(width, height, SIMULATION_RADIUS, RENDER_RADIUS, chunkListener);
+        sleepingWildlife.clear();
+        for (int i = 0; i < chunkManager.getChunkCount(); i++) {
+            sleepingWildlife.add(null);
+        }
+        Gdx.app.log("MapLoader", "Tile grid sized to " + width + "x" + height);
     }
 
-    private void createWallBody(int x, int y) {
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.StaticBody;
-        bodyDef.position.set(x + 0.5f, y + 0.5f);
-        Body body = world.createBody(bodyDef);
-
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(0.5f, 0.5f);
+    private void createWallBodies() {
+        // Rand der Map plus alles, was die TMX-Map als solid markiert
+        boolean[] solid = CollisionCompiler.solidCells(tiledMap, mapWidth, mapHeight);
+        CollisionCompiler.addBorder(solid, mapWidth, mapHeight);
+        // Wildlife hat keine Kollision, die Wände müssen also auch ins Flow Field
+        for (int y = 0; y < mapHeight; y++) {
+            for (int x = 0; x < mapWidth; x++) {
+                cropFlowField.setBlocked(x, y, solid[y * mapWidth + x] || !tiles.isWalkable(x, y));
+            }
+        }
 
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
-        fixtureDef.density = 1.0f;
-        fixtureDef.filter.categoryBits = CATEGORY_WALL;
-        fixtureDef.filter.maskBits = MASK_WALL;  // Kollidiert nur mit Spieler
+        // Same walls as the last map: keep the body
+        if (wallBody != null && Arrays.equals(solid, wallCells)) {
+            return;
+        }
+        if (wallBody != null) {
+            world.destroyBody(wallBody);
+        }
 
-        body.createFixture(fixtureDef);
-        shape.dispose();
+        List<CollisionCompiler.Box> boxes = CollisionCompiler.merge(solid, mapWidth, mapHeight);
+        wallBody = CollisionCompiler.build(world, boxes, CATEGORY_WALL, MASK_WALL);  // Kollidiert nur mit Spieler
+        wallCells = solid;
+        Gdx.app.log("MapLoader", "Walls compiled into " + boxes.size() + " rectangles");
     }
 
     private void spawnGameObjects() {
         gameObjects.clear();
-        Random rand = new Random();
+        objectIndex.clear();
         for (int i = 0; i < 5; i++) {
-            int x = 5 + rand.nextInt(20);
-            int y = 5 + rand.nextInt(20);
-            gameObjects.add(new GameObject(x, y, Textures.getRandomObject()));
+            // 5 Tiles Abstand zum Rand (bei 32x32 zwischen 5 und 24)
+            int x = 5 + random.nextInt(Math.max(1, mapWidth - 12));
+            int y = 5 + random.nextInt(Math.max(1, mapHeight - 12));
+            GameObject object = new GameObject(x, y, Textures.getRandomObject(random));
+            gameObjects.add(object);
+            objectIndex.insert(object, x, y);
         }
     }
 
-    private void spawnWildlife() {
+    /**
+     * Drops all wildlife, awake and asleep, and frees their mover slots.
+     */
+    private void removeAllWildlife() {
+        for (int i = 0; i < wildlifeVisitors.size(); i++) {
+            WildlifeVisitor visitor = wildlifeVisitors.get(i);
+            visitor.cancelTimers();
+            engine.removeEntity(visitor.getEntity());
+            actorIndex.remove(wildlifeEntries.get(i));
+            visitor.removeFromMover();
+        }
         wildlifeVisitors.clear();
-        Random rand = new Random();
+        wildlifeEntries.clear();
+        // Sleeping ones have no timers and no entity in the engine
+        for (List<WildlifeVisitor> sleeping : sleepingWildlife) {
+            if (sleeping == null) continue;
+            for (WildlifeVisitor visitor : sleeping) {
+                visitor.removeFromMover();
+            }
+            sleeping.clear();
+        }
+    }
+
+    private void spawnWildlife() {
+        // Spawnbereich: 5 Tiles Abstand zum Rand (bei 32x32 zwischen 5 und 26)
+        int rangeX = Math.max(1, mapWidth - 10);
+        int rangeY = Math.max(1, mapHeight - 10);
 
         // 10 RATs (Zombies) zufällig auf der Map spawnen
         for (int i = 0; i < 10; i++) {
-            int x = 5 + rand.nextInt(22);  // Zwischen 5 und 26
-            int y = 5 + rand.nextInt(22);
-            wildlifeVisitors.add(new WildlifeVisitor(world, x, y, WildlifeVisitor.WildlifeType.RAT, this));
+            int x = 5 + random.nextInt(rangeX);
+            int y = 5 + random.nextInt(rangeY);
+            addWildlife(x, y, WildlifeVisitor.WildlifeType.RAT);
         }
 
         // 10 CROWs zufällig auf der Map spawnen
         for (int i = 0; i < 10; i++) {
-            int x = 5 + rand.nextInt(22);
-            int y = 5 + rand.nextInt(22);
-            wildlifeVisitors.add(new WildlifeVisitor(world, x, y, WildlifeVisitor.WildlifeType.CROW, this));
+            int x = 5 + random.nextInt(rangeX);
+            int y = 5 + random.nextInt(rangeY);
+            addWildlife(x, y, WildlifeVisitor.WildlifeType.CROW);
         }
     }
 
+    public WildlifeVisitor addWildlife(float x, float y, WildlifeVisitor.WildlifeType type) {
+        WildlifeVisitor visitor = new WildlifeVisitor(movers, x, y, type, this, random.nextLong());
+        wildlifeVisitors.add(visitor);
+        wildlifeEntries.add(actorIndex.insert(visitor, x, y));
+        engine.addEntity(visitor.getEntity());
+        if (!chunkManager.isSimulated(x, y)) {
+            sleepWildlife(wildlifeVisitors.size() - 1);
+        }
+        return visitor;
+    }
+
+    /**
+     * Parks the visitor at {@code index} in its chunk: no entity in the engine, no timers, no active body.
+     */
+    private void sleepWildlife(int index) {
+        // Swap with the last one, order does not matter
+        int last = wildlifeVisitors.size() - 1;
+        WildlifeVisitor visitor = wildlifeVisitors.get(index);
+        actorIndex.remove(wildlifeEntries.get(index));
+        wildlifeVisitors.set(index, wildlifeVisitors.get(last));
+        wildlifeEntries.set(index, wildlifeEntries.get(last));
+        wildlifeVisitors.remove(last);
+        wildlifeEntries.remove(last);
+
+        visitor.sleep();
+        engine.removeEntity(visitor.getEntity());
+        int chunk = chunkManager.chunkOf(visitor.getX(), visitor.getY());
+        List<WildlifeVisitor> sleeping = sleepingWildlife.get(chunk);
+        if (sleeping == null) {
+            sleeping = new ArrayList<>();
+            sleepingWildlife.set(chunk, sleeping);
+        }
+        sleeping.add(visitor);
+    }
+
     public void tick(float frameTime) {
+        if (recorder != null) {
+            recorder.record(frameTime, currentLevel);
+        }
         if (gameOver) return;
 
         gameTime += frameTime;
 
-        // Timer herunterzählen
-        remainingTime -= frameTime;
-        if (remainingTime <= 0) {
-            remainingTime = 0;
-            gameOver = true;
-            gameOverReason = GameOverReason.TIME_EXPIRED;
-            player.getHitbox().setLinearVelocity(0, 0);
-            Gdx.app.log("GameMap", "Game Over: Zeit abgelaufen!");
-            return;
-        }
+        // Fällige Timer auslösen (Wachstum, Wildlife, Chaser-Spawn, Tagesende)
+        begin(FrameProfiler.Phase.TIMERS);
+        scheduler.advance(frameTime);
+        end(FrameProfiler.Phase.TIMERS);
+        if (gameOver) return;
 
         // Spieler-Geschwindigkeit für aktuelles Level setzen
+        begin(FrameProfiler.Phase.PLAYER);
         player.setMovementSpeed(getCurrentSpeed());
-        this.player.tick(frameTime);
-        handlePlayerInteraction();
+        chunkManager.update(player.getX(), player.getY());
 
         // Spieler-Position aufzeichnen für Chaser
         recordPlayerPosition(frameTime);
-
-        // Chaser Zombie spawnen nach 5 Sekunden
-        if (chaserZombie == null && gameTime >= CHASER_SPAWN_DELAY) {
-            spawnChaserZombie();
-        }
+        end(FrameProfiler.Phase.PLAYER);
 
         // Chaser Zombie updaten
         if (chaserZombie != null) {
+            begin(FrameProfiler.Phase.CHASER);
             chaserZombie.setMoveSpeed(getCurrentSpeed());  // Geschwindigkeit aktualisieren
             updateChaserZombie(frameTime);
-            chaserZombie.tick(frameTime);
+            end(FrameProfiler.Phase.CHASER);
         }
 
+        begin(FrameProfiler.Phase.WILDLIFE);
+        sleepStrayWildlife();
+        end(FrameProfiler.Phase.WILDLIFE);
+
+        // Player and chaser behaviour, player interaction, wildlife, physics step
+        engine.update(frameTime);
+        begin(FrameProfiler.Phase.ACTOR_INDEX);
+        updateActorIndex();
+        end(FrameProfiler.Phase.ACTOR_INDEX);
+
+        // After the step, so the player stops where the contact happened
         checkGameOver();
+    }
 
-        for (WildlifeVisitor visitor : wildlifeVisitors) {
-            visitor.tick(frameTime);
-        }
+    private void begin(FrameProfiler.Phase phase) {
+        if (profiler != null) profiler.begin(phase);
+    }
 
-        for (int x = 0; x < MAP_WIDTH; x++) {
-            for (int y = 0; y < MAP_HEIGHT; y++) {
-                tiles[x][y].tick(frameTime);
+    private void end(FrameProfiler.Phase phase) {
+        if (profiler != null) profiler.end(phase);
+    }
+
+    /**
+     * Puts visitors that walked out of the simulated chunks to sleep, before the engine runs.
+     */
+    private void sleepStrayWildlife() {
+        for (int i = 0; i < wildlifeVisitors.size(); ) {
+            WildlifeVisitor visitor = wildlifeVisitors.get(i);
+            if (!chunkManager.isSimulated(visitor.getX(), visitor.getY())) {
+                // Aus dem Simulationsradius gelaufen, der Letzte rückt an Stelle i nach
+                sleepWildlife(i);
+                continue;
             }
+            i++;
+        }
+    }
+
+    /**
+     * Moves the index entries to where the physics step put the bodies.
+     */
+    private void updateActorIndex() {
+        actorIndex.move(playerEntry, player.getX(), player.getY());
+        if (chaserEntry != null) {
+            actorIndex.move(chaserEntry, chaserZombie.getX(), chaserZombie.getY());
         }
+        // Index-Schleifen statt for-each: kein Iterator pro Tick
+        for (int i = 0; i < wildlifeEntries.size(); i++) {
+            SpatialHash.Entry<Drawable> entry = wildlifeEntries.get(i);
+            Drawable visitor = entry.getItem();
+            actorIndex.move(entry, visitor.getX(), visitor.getY());
+        }
+    }
+
+    /**
+     * Adds the player, chaser and wildlife closer than {@code radius} to (x, y) to {@code out}.
+     * Only looks at the grid cells around the point, not at every actor on the map.
+     * @return The number of actors added.
+     */
+    public int findActorsNear(float x, float y, float radius, List<? super Drawable> out) {
+        return actorIndex.queryRadius(x, y, radius, out);
+    }
+
+    /**
+     * Adds the player, chaser and awake wildlife positioned inside the rectangle to {@code out}.
+     * Reads the index of the tick thread, so only call it while no tick runs.
+     * @return The number of actors added.
+     */
+    public int findActorsIn(float minX, float minY, float maxX, float maxY, List<? super Drawable> out) {
+        return actorIndex.queryRect(minX, minY, maxX, maxY, out);
+    }
+
+    /**
+     * Adds the decoration objects positioned inside the rectangle to {@code out}.
+     * @return The number of objects added.
+     */
+    public int findObjectsIn(float minX, float minY, float maxX, float maxY, List<? super GameObject> out) {
+        return objectIndex.queryRect(minX, minY, maxX, maxY, out);
+    }
+
+    private void endDay() {
+        if (endless) {
+            scheduler.schedule(dayEndTimer, LEVEL_TIME_LIMIT);
+            return;
+        }
+        gameOver = true;
+        gameOverReason = GameOverReason.TIME_EXPIRED;
+        player.stop();
+        Gdx.app.log("GameMap", "Game Over: Zeit abgelaufen!");
+    }
 
-        doPhysicsStep(frameTime);
+    /**
+     * Replaces the tile at the given position. A crop on it is removed, which also stops its timer.
+     */
+    private void setTile(int x, int y, Tile tile) {
+        tiles.setTile(x, y, tile);
+        cropFlowField.setBlocked(x, y, isBlocked(x, y));
+    }
+
+    /** Whether wildlife following the flow field must go around (x, y): TMX wall, map border or tile. */
+    private boolean isBlocked(int x, int y) {
+        return wallCells[y * mapWidth + x] || !tiles.isWalkable(x, y);
     }
 
     private void recordPlayerPosition(float frameTime) {
@@ -339,7 +692,7 @@ private void recordPlayerPosition(float frameTime) {
         if (positionRecordTimer >= POSITION_RECORD_INTERVAL) {
             positionRecordTimer = 0;
             // Position mit Zeitstempel speichern: [x, y, time]
-            positionHistory.add(new float[]{player.getX(), player.getY(), gameTime});
+            positionHistory.record(player.getX(), player.getY(), gameTime);
         }
     }
 
@@ -347,62 +700,64 @@ private void spawnChaserZombie() {
         // Chaser spawnt am Eingang (gleiche Position wie Spieler-Start, map-specific)
         float entranceX = MAP_ENTRANCES[currentMapIndex][0];
         float entranceY = MAP_ENTRANCES[currentMapIndex][1];
-        chaserZombie = new ChaserZombie(world, entranceX, entranceY);
+        chaserZombie = new ChaserZombie(movers, entranceX, entranceY);
+        chaserEntry = actorIndex.insert(chaserZombie, entranceX, entranceY);
+        engine.addEntity(chaserZombie.getEntity());
         chaserZombie.setMoveSpeed(getCurrentSpeed());  // Gleiche Geschwindigkeit wie Spieler
         chaserZombie.activate();
         Gdx.app.log("GameMap", "Chaser Zombie spawned at (" + entranceX + ", " + entranceY + ") with speed " + getCurrentSpeed());
     }
 
+    private void removeChaserZombie() {
+        if (chaserZombie == null) return;
+        engine.removeEntity(chaserZombie.getEntity());
+        actorIndex.remove(chaserEntry);
+        chaserZombie.removeFromMover();
+        chaserZombie = null;
+        chaserEntry = null;
+    }
+
     private void updateChaserZombie(float frameTime) {
-        // Chaser folgt der Position von vor 5 Sekunden
+        // Chaser folgt der Position von vor 5 Sekunden, zwischen den Samples interpoliert
         float targetTime = gameTime - CHASER_FOLLOW_DELAY;
-
-        // Alte Positionen entfernen und die richtige Zielposition finden
-        while (!positionHistory.isEmpty()) {
-            float[] pos = positionHistory.peek();
-            if (pos[2] <= targetTime) {
-                chaserZombie.setTarget(pos[0], pos[1]);
-                positionHistory.poll();
-            } else {
-                break;
-            }
+        if (positionHistory.sample(targetTime, chaserTarget)) {
+            chaserZombie.setTarget(chaserTarget.x, chaserTarget.y);
         }
     }
 
-    private void handlePlayerInteraction() {
+    /** Called by the {@link PlayerInteractionSystem}, after the player's tick switched tools. */
+    void handlePlayerInteraction() {
         int px = player.getTileX();
         int py = player.getTileY();
-        Tile currentTile = getTile(px, py);
+        // Nur Sonder-Tiles nachsehen, getTile würde für Erde jedes Mal eine SoilTile-Ansicht anlegen
+        Tile currentTile = tiles.contains(px, py) ? tiles.getObject(px, py) : null;
 
         if (currentTile instanceof ToolItem) {
             ToolItem toolItem = (ToolItem) currentTile;
             player.addItem(toolItem.getItemType());
-            tiles[px][py] = new SoilTile(px, py);
+            tiles.setSoil(px, py);
+            cropFlowField.setBlocked(px, py, isBlocked(px, py));
             Gdx.app.log("GameMap", "Picked up tool: " + toolItem.getItemType());
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (input.isKeyJustPressed(Input.Keys.SPACE)) {
             useTool(px, py);
         }
 
         // E-Taste zum Verscheuchen von Wildlife
-        if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
+        if (input.isKeyJustPressed(Input.Keys.E)) {
             shooWildlife();
         }
     }
 
     private void shooWildlife() {
-        float playerX = player.getX();
-        float playerY = player.getY();
-        float shooRange = 3.0f;
-
-        for (WildlifeVisitor visitor : wildlifeVisitors) {
-            float dx = playerX - visitor.getX();
-            float dy = playerY - visitor.getY();
-            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        nearbyActors.clear();
+        findActorsNear(player.getX(), player.getY(), SHOO_RANGE, nearbyActors);
 
-            if (distance < shooRange) {
-                visitor.frighten();
+        for (int i = 0; i < nearbyActors.size(); i++) {
+            Drawable actor = nearbyActors.get(i);
+            if (actor instanceof WildlifeVisitor) {
+                ((WildlifeVisitor) actor).frighten();
                 Gdx.app.log("GameMap", "Shooed wildlife!");
             }
         }
@@ -421,7 +776,7 @@ private void useTool(int x, int y) {
             case SHOVEL:
                 if (tile instanceof Debris) {
                     Debris debris = (Debris) tile;
-                    tiles[x][y] = debris.getHiddenTile();
+                    setTile(x, y, debris.getHiddenTile());
                     Gdx.app.log("GameMap", "Cleared debris!");
                 } else if (tile instanceof SoilTile) {
                     SoilTile soil = (SoilTile) tile;
@@ -459,17 +814,7 @@ private void useTool(int x, int y) {
         }
     }
 
-    private void doPhysicsStep(float frameTime) {
-        this.physicsTime += frameTime;
-        while (this.physicsTime >= TIME_STEP) {
-            this.world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-            this.physicsTime -= TIME_STEP;
-        }
-    }
-
     private void checkGameOver() {
-        float playerX = player.getX();
-        float playerY = player.getY();
         int px = player.getTileX();
         int py = player.getTileY();
 
@@ -477,7 +822,7 @@ private void checkGameOver() {
         int exitX = MAP_EXITS[currentMapIndex][0];
         int exitY = MAP_EXITS[currentMapIndex][1];
         if (px == exitX && py == exitY) {
-            player.getHitbox().setLinearVelocity(0, 0);
+            player.stop();
 
             if (currentLevel >= MAX_LEVEL) {
                 // Alle Level geschafft - Spiel gewonnen!
@@ -494,33 +839,30 @@ private void checkGameOver() {
             return;
         }
 
-        // Kollision mit Wildlife prüfen
-        for (WildlifeVisitor visitor : wildlifeVisitors) {
-            float dx = playerX - visitor.getX();
-            float dy = playerY - visitor.getY();
-            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        // Kollision mit Wildlife und Chaser Zombie prüfen - nur Actors in der Nähe des Spielers
+        nearbyActors.clear();
+        findActorsNear(player.getX(), player.getY(), CONTACT_RADIUS, nearbyActors);
 
-            if (distance < 0.6f) {
+        boolean chaserContact = false;
+        for (int i = 0; i < nearbyActors.size(); i++) {
+            Drawable actor = nearbyActors.get(i);
+            if (actor instanceof WildlifeVisitor && !endless) {
                 gameOver = true;
                 gameOverReason = GameOverReason.WILDLIFE_CONTACT;
-                player.getHitbox().setLinearVelocity(0, 0);
+                player.stop();
                 Gdx.app.log("GameMap", "Game Over: Caught by wildlife!");
                 return;
             }
+            if (actor == chaserZombie && chaserZombie.isActive()) {
+                chaserContact = true;
+            }
         }
 
-        // Kollision mit Chaser Zombie prüfen
-        if (chaserZombie != null && chaserZombie.isActive()) {
-            float dx = playerX - chaserZombie.getX();
-            float dy = playerY - chaserZombie.getY();
-            float distance = (float) Math.sqrt(dx * dx + dy * dy);
-
-            if (distance < 0.6f) {
-                gameOver = true;
-                gameOverReason = GameOverReason.CHASER_CAUGHT;
-                player.getHitbox().setLinearVelocity(0, 0);
-                Gdx.app.log("GameMap", "Game Over: Caught by Chaser Zombie!");
-            }
+        if (chaserContact && !endless) {
+            gameOver = true;
+            gameOverReason = GameOverReason.CHASER_CAUGHT;
+            player.stop();
+            Gdx.app.log("GameMap", "Game Over: Caught by Chaser Zombie!");
         }
     }
 
@@ -532,12 +874,11 @@ private void checkGameOver() {
     public int getCurrentLevel() { return currentLevel; }
     public int getMaxLevel() { return MAX_LEVEL; }
     public Player getPlayer() { return player; }
-    public Tile[][] getTiles() { return tiles; }
-    public GroundTile[][] getGroundLayer() { return groundLayer; }
+    public TileStorage getTileStorage() { return tiles; }
 
     public Tile getTile(int x, int y) {
-        if (x >= 0 && x < MAP_WIDTH && y >= 0 && y < MAP_HEIGHT) {
-            return tiles[x][y];
+        if (tiles.contains(x, y)) {
+            return tiles.getTile(x, y);
         }
         return null;
     }
@@ -545,12 +886,35 @@ public Tile getTile(int x, int y) {
     public List<GameObject> getGameObjects() { return gameObjects; }
     public List<WildlifeVisitor> getWildlifeVisitors() { return wildlifeVisitors; }
     public ChaserZombie getChaserZombie() { return chaserZombie; }
-    public int getWidth() { return MAP_WIDTH; }
-    public int getHeight() { return MAP_HEIGHT; }
+    public int getWidth() { return mapWidth; }
+    public int getHeight() { return mapHeight; }
     public World getWorld() { return world; }
     public boolean hasTmxMap() { return tiledMap != null; }
-    public float getRemainingTime() { return remainingTime; }
+    public float getRemainingTime() { return scheduler.remaining(dayEndTimer); }
+    public TimingWheel getScheduler() { return scheduler; }
+    public CropIndex getCropIndex() { return cropIndex; }
+    public FlowField getCropFlowField() { return cropFlowField; }
+    public ChunkManager getChunkManager() { return chunkManager; }
     public float getCurrentSpeed() { return LEVEL_SPEEDS[currentLevel - 1]; }
+    public void setEndless(boolean endless) { this.endless = endless; }
+
+    /** Whether large crowds of wildlife may decide in parallel. The outcome is the same either way. */
+    public void setParallelWildlife(boolean parallelWildlife) { wildlifeSystem.setParallel(parallelWildlife); }
+    public Engine getEngine() { return engine; }
+
+    /**
+     * Times the parts of {@link #tick(float)} with {@code profiler}, or stops timing with null.
+     * Only for maps ticked on the render thread, the profiler is not thread-safe.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+        behaviourSystem.setProfiler(profiler);
+        interactionSystem.setProfiler(profiler);
+        wildlifeSystem.setProfiler(profiler);
+        kinematicSystem.setProfiler(profiler);
+        physicsSystem.setProfiler(profiler);
+    }
+    public long getSeed() { return seed; }
 
     public void startNextLevel() {
         if (currentLevel >= MAX_LEVEL) return;
@@ -559,33 +923,20 @@ public void startNextLevel() {
         levelComplete = false;
         gameOverReason = GameOverReason.NONE;
 
-        // Timer und Chaser zurücksetzen
-        remainingTime = LEVEL_TIME_LIMIT;
+        // Timer und Chaser zurücksetzen (neue Timer setzt loadCurrentLevelMap)
         gameTime = 0;
         positionRecordTimer = 0;
         positionHistory.clear();
 
-        // Chaser Zombie entfernen
-        if (chaserZombie != null) {
-            world.destroyBody(chaserZombie.getHitbox());
-            chaserZombie = null;
-        }
-
-        // Alte Map entladen
-        if (tiledMap != null) {
-            tiledMap.dispose();
-            tiledMap = null;
-        }
-        if (tiledMapRenderer != null) {
-            tiledMapRenderer.dispose();
-            tiledMapRenderer = null;
-        }
+        // Alte Map entladen (Chaser und Wildlife räumt loadCurrentLevelMap weg)
+        unloadTmxMap();
 
         // Spieler an neue Eingangsposition setzen
         currentMapIndex = LEVEL_TO_MAP[currentLevel - 1];
         float entranceX = MAP_ENTRANCES[currentMapIndex][0];
         float entranceY = MAP_ENTRANCES[currentMapIndex][1];
-        player.getHitbox().setTransform(entranceX, entranceY, 0);
+        player.setPosition(entranceX, entranceY);
+        actorIndex.move(playerEntry, entranceX, entranceY);
 
         // Neue Map laden
         loadCurrentLevelMap();
@@ -593,8 +944,27 @@ public void startNextLevel() {
         Gdx.app.log("GameMap", "Started Level " + currentLevel);
     }
 
+    /**
+     * Records the input and frame time of every following tick to {@code stream}, until
+     * {@link #stopRecording()}. Replaying the file with {@link ReplayInput} gives the same run.
+     */
+    public void startRecording(OutputStream stream) throws IOException {
+        stopRecording();
+        recorder = new ReplayRecorder(input, seed, stream);
+        Gdx.app.log("GameMap", "Recording replay with seed " + seed);
+    }
+
+    public void stopRecording() {
+        if (recorder == null) return;
+        recorder.close();
+        Gdx.app.log("GameMap", "Recorded " + recorder.getTickCount() + " ticks");
+        recorder = null;
+    }
+
     public void dispose() {
+        stopRecording();
         if (tiledMap != null) tiledMap.dispose();
         if (tiledMapRenderer != null) tiledMapRenderer.dispose();
+        world.dispose();
     }
 }
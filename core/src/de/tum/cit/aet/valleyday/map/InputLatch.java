@@ -0,0 +1,53 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+import java.util.Arrays;
+
+/**
+ * Hands keyboard state from the render thread to a simulation running on another thread.
+ * <p>
+ * {@code Gdx.input} may only be read on the render thread, and its "just pressed" state only lasts
+ * one render frame. The render thread calls {@link #capture()} every frame; key presses are collected
+ * until the simulation starts its next tick with {@link #beginTick()}, so none get lost or seen twice
+ * no matter how render frames and ticks line up.
+ */
+public class InputLatch implements InputSource {
+    private static final int KEY_COUNT = Input.Keys.MAX_KEYCODE + 1;
+
+    // Written by the render thread, guarded by this
+    private final boolean[] pressed = new boolean[KEY_COUNT];
+    private final boolean[] justPressed = new boolean[KEY_COUNT];
+
+    // What the simulation sees during the current tick
+    private final boolean[] tickPressed = new boolean[KEY_COUNT];
+    private final boolean[] tickJustPressed = new boolean[KEY_COUNT];
+
+    /** Reads {@code Gdx.input}. Render thread only. */
+    public synchronized void capture() {
+        for (int key = 0; key < KEY_COUNT; key++) {
+            pressed[key] = Gdx.input.isKeyPressed(key);
+            if (Gdx.input.isKeyJustPressed(key)) {
+                justPressed[key] = true;
+            }
+        }
+    }
+
+    /** Takes over everything captured since the last tick. Simulation thread only. */
+    public synchronized void beginTick() {
+        System.arraycopy(pressed, 0, tickPressed, 0, KEY_COUNT);
+        System.arraycopy(justPressed, 0, tickJustPressed, 0, KEY_COUNT);
+        Arrays.fill(justPressed, false);
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return keycode >= 0 && keycode < KEY_COUNT && tickPressed[keycode];
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        return keycode >= 0 && keycode < KEY_COUNT && tickJustPressed[keycode];
+    }
+}
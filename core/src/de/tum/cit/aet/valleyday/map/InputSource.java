@@ -0,0 +1,27 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * The keyboard state the simulation reads from.
+ * The game uses {@link #GDX}, headless runs and replays supply their own implementation.
+ */
+public interface InputSource {
+
+    /** Reads directly from {@code Gdx.input}. */
+    InputSource GDX = new InputSource() {
+        @Override
+        public boolean isKeyPressed(int keycode) {
+            return Gdx.input.isKeyPressed(keycode);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int keycode) {
+            return Gdx.input.isKeyJustPressed(keycode);
+        }
+    };
+
+    boolean isKeyPressed(int keycode);
+
+    boolean isKeyJustPressed(int keycode);
+}
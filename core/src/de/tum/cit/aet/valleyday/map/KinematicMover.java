@@ -0,0 +1,104 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.util.Arrays;
+
+/**
+ * Moves things that collide with nothing - wildlife and the chaser - without Box2D.
+ * <p>
+ * Positions and velocities are kept in parallel float arrays, one slot per mover, and
+ * {@link #step(float)} integrates all of them in a single loop. Box2D bodies are only needed for what
+ * actually collides (the player and the walls), so wildlife adds nothing to the physics step or the
+ * broadphase. Slots of removed movers are reused.
+ */
+public class KinematicMover {
+    // Same cap as the physics step: a very long frame does not teleport anything
+    private static final float MAX_STEP = 5f / 60f;
+
+    private float[] xs;
+    private float[] ys;
+    private float[] velocityXs;
+    private float[] velocityYs;
+    private int size = 0;
+    private int[] freeSlots;
+    private int freeCount = 0;
+
+    public KinematicMover(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        xs = new float[capacity];
+        ys = new float[capacity];
+        velocityXs = new float[capacity];
+        velocityYs = new float[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Adds a mover at rest at (x, y).
+     * @return Its slot, valid until {@link #remove(int)}.
+     */
+    public int add(float x, float y) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (size == xs.length) {
+                grow();
+            }
+            slot = size++;
+        }
+        xs[slot] = x;
+        ys[slot] = y;
+        velocityXs[slot] = 0;
+        velocityYs[slot] = 0;
+        return slot;
+    }
+
+    public void remove(int slot) {
+        // Stillstand: ein freier Slot bewegt sich in step() nicht
+        velocityXs[slot] = 0;
+        velocityYs[slot] = 0;
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        velocityXs = Arrays.copyOf(velocityXs, capacity);
+        velocityYs = Arrays.copyOf(velocityYs, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    /**
+     * Moves every mover along its velocity for {@code deltaTime} seconds.
+     */
+    public void step(float deltaTime) {
+        float dt = Math.min(deltaTime, MAX_STEP);
+        for (int i = 0; i < size; i++) {
+            xs[i] += velocityXs[i] * dt;
+            ys[i] += velocityYs[i] * dt;
+        }
+    }
+
+    public void setVelocity(int slot, float x, float y) {
+        velocityXs[slot] = x;
+        velocityYs[slot] = y;
+    }
+
+    public void setPosition(int slot, float x, float y) {
+        xs[slot] = x;
+        ys[slot] = y;
+    }
+
+    public float getX(int slot) {
+        return xs[slot];
+    }
+
+    public float getY(int slot) {
+        return ys[slot];
+    }
+
+    /** Number of movers in use. */
+    public int getCount() {
+        return size - freeCount;
+    }
+}
@@ -0,0 +1,28 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.ashley.core.EntitySystem;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+
+/**
+ * Steps the {@link KinematicMover} of the map, i.e. moves every entity with a {@link MoverComponent}.
+ */
+class KinematicSystem extends EntitySystem {
+    private final KinematicMover mover;
+    private FrameProfiler profiler;
+
+    KinematicSystem(KinematicMover mover, int priority) {
+        super(priority);
+        this.mover = mover;
+    }
+
+    void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.MOVERS);
+        mover.step(deltaTime);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.MOVERS);
+    }
+}
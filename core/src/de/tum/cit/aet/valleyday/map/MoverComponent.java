@@ -0,0 +1,16 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * The slot of an entity in a {@link KinematicMover}. Entities with one move without a hitbox.
+ */
+public class MoverComponent implements Component {
+    public final KinematicMover mover;
+    public final int slot;
+
+    public MoverComponent(KinematicMover mover, int slot) {
+        this.mover = mover;
+        this.slot = slot;
+    }
+}
@@ -1,14 +1,18 @@
 package de.tum.cit.aet.valleyday.map;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.CircleShape;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
+import de.tum.cit.aet.valleyday.entity.AiComponent;
+import de.tum.cit.aet.valleyday.entity.Behaviour;
+import de.tum.cit.aet.valleyday.entity.HitboxComponent;
+import de.tum.cit.aet.valleyday.entity.Hitboxes;
+import de.tum.cit.aet.valleyday.entity.PositionComponent;
+import de.tum.cit.aet.valleyday.entity.VelocityComponent;
 import de.tum.cit.aet.valleyday.texture.Animations;
 import de.tum.cit.aet.valleyday.texture.Drawable;
 import de.tum.cit.aet.valleyday.tiles.ToolItem;
@@ -16,9 +20,13 @@
 import java.util.ArrayList;
 import java.util.List;
 
-public class Player implements Drawable {
+public class Player implements Drawable, Behaviour {
     private float elapsedTime;
     private final Body hitbox;
+    private final PositionComponent position;
+    private final VelocityComponent velocity = new VelocityComponent();
+    private final Entity entity = new Entity();
+    private final InputSource input;
     private float movementSpeed = 5.0f;  // Wird von GameMap gesetzt
     private Direction currentDirection = Direction.DOWN;
 
@@ -32,7 +40,15 @@ private enum Direction {
     }
 
     public Player(World world, float x, float y) {
-        this.hitbox = createHitbox(world, x, y);
+        this(world, x, y, InputSource.GDX);
+    }
+
+    public Player(World world, float x, float y, InputSource input) {
+        this.input = input;
+        // Kollidiert mit Wänden
+        this.hitbox = Hitboxes.createActor(world, x, y, GameMap.CATEGORY_PLAYER, GameMap.MASK_PLAYER, this);
+        this.position = new PositionComponent(x, y);
+        entity.add(position).add(velocity).add(new HitboxComponent(hitbox)).add(new AiComponent(this));
         this.inventory = new ArrayList<>();
         this.currentTool = null;
         this.coins = 0;
@@ -42,63 +58,43 @@ public void setMovementSpeed(float speed) {
         this.movementSpeed = speed;
     }
 
-    private Body createHitbox(World world, float startX, float startY) {
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set(startX, startY);
-        Body body = world.createBody(bodyDef);
-
-        CircleShape circle = new CircleShape();
-        circle.setRadius(0.3f);
-
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = circle;
-        fixtureDef.density = 1.0f;
-        fixtureDef.filter.categoryBits = GameMap.CATEGORY_PLAYER;
-        fixtureDef.filter.maskBits = GameMap.MASK_PLAYER;  // Kollidiert mit Wänden
-
-        body.createFixture(fixtureDef);
-        circle.dispose();
-        body.setUserData(this);
-        return body;
-    }
-
+    @Override
     public void tick(float frameTime) {
         this.elapsedTime += frameTime;
 
         float xVelocity = 0;
         float yVelocity = 0;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
+        if (input.isKeyPressed(Input.Keys.W)) {
             yVelocity = movementSpeed;
             currentDirection = Direction.UP;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.S)) {
+        } else if (input.isKeyPressed(Input.Keys.S)) {
             yVelocity = -movementSpeed;
             currentDirection = Direction.DOWN;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+        if (input.isKeyPressed(Input.Keys.A)) {
             xVelocity = -movementSpeed;
             currentDirection = Direction.LEFT;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+        } else if (input.isKeyPressed(Input.Keys.D)) {
             xVelocity = movementSpeed;
             currentDirection = Direction.RIGHT;
         }
 
-        this.hitbox.setLinearVelocity(xVelocity, yVelocity);
+        velocity.set(xVelocity, yVelocity);
         handleToolSwitch();
     }
 
     private void handleToolSwitch() {
         if (inventory.isEmpty()) return;
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1) && inventory.size() > 0) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_1) && inventory.size() > 0) {
             currentTool = inventory.get(0);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2) && inventory.size() > 1) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_2) && inventory.size() > 1) {
             currentTool = inventory.get(1);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3) && inventory.size() > 2) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_3) && inventory.size() > 2) {
             currentTool = inventory.get(2);
         }
     }
@@ -136,6 +132,13 @@ public int getCoins() {
 
     public void setPosition(float x, float y) {
         hitbox.setTransform(x, y, 0);
+        position.x = x;
+        position.y = y;
+    }
+
+    /** Stands still until the next tick reads the input again. */
+    public void stop() {
+        velocity.set(0, 0);
     }
 
     @Override
@@ -163,12 +166,12 @@ public TextureRegion getCurrentAppearance() {
 
     @Override
     public float getX() {
-        return hitbox.getPosition().x;
+        return position.x;
     }
 
     @Override
     public float getY() {
-        return hitbox.getPosition().y;
+        return position.y;
     }
 
     public int getTileX() {
@@ -182,4 +185,8 @@ public int getTileY() {
     public Body getHitbox() {
         return hitbox;
     }
+
+    public Entity getEntity() {
+        return entity;
+    }
 }
@@ -0,0 +1,31 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.ashley.core.EntitySystem;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+
+/**
+ * Picks up tools, uses the current tool and shoos wildlife for the player's tile.
+ * <p>
+ * Runs right after the {@link de.tum.cit.aet.valleyday.entity.BehaviourSystem}, so a tool switched
+ * with 1-3 in {@link Player#tick(float)} is already the one used when SPACE is pressed in the same tick.
+ */
+class PlayerInteractionSystem extends EntitySystem {
+    private final GameMap map;
+    private FrameProfiler profiler;
+
+    PlayerInteractionSystem(GameMap map, int priority) {
+        super(priority);
+        this.map = map;
+    }
+
+    void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.PLAYER);
+        map.handlePlayerInteraction();
+        if (profiler != null) profiler.end(FrameProfiler.Phase.PLAYER);
+    }
+}
@@ -0,0 +1,101 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A fixed-size ring buffer of timestamped positions, kept in three primitive arrays.
+ * <p>
+ * Recording overwrites the oldest sample once the buffer is full, so nothing is allocated after
+ * construction. Samples are never consumed: any number of followers can ask where the tracked
+ * object was at some earlier time and get a position interpolated between the two nearest samples.
+ */
+public class PositionHistory {
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] times;
+    private int head = 0;  // Index of the oldest sample
+    private int size = 0;
+
+    /**
+     * @param capacity Number of samples kept. Must cover the longest delay any follower asks for.
+     */
+    public PositionHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.xs = new float[capacity];
+        this.ys = new float[capacity];
+        this.times = new float[capacity];
+    }
+
+    /**
+     * Adds a sample. Times must not decrease between calls.
+     */
+    public void record(float x, float y, float time) {
+        int index;
+        if (size < times.length) {
+            index = physical(size);
+            size++;
+        } else {
+            index = head;
+            head = physical(1);
+        }
+        xs[index] = x;
+        ys[index] = y;
+        times[index] = time;
+    }
+
+    /**
+     * Looks up the position at the given time, linearly interpolated between the samples around it.
+     * Times after the newest sample give the newest position.
+     * @return False if there is no sample that old (yet), {@code out} is left unchanged then.
+     */
+    public boolean sample(float time, Vector2 out) {
+        if (size == 0 || time < times[head]) {
+            return false;
+        }
+
+        // Binary search for the last sample at or before the requested time
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (times[physical(mid)] <= time) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        int before = physical(low);
+        if (low == size - 1) {
+            out.set(xs[before], ys[before]);
+            return true;
+        }
+        int after = physical(low + 1);
+        float span = times[after] - times[before];
+        float alpha = span > 0 ? (time - times[before]) / span : 0;
+        out.set(xs[before] + (xs[after] - xs[before]) * alpha,
+                ys[before] + (ys[after] - ys[before]) * alpha);
+        return true;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return times.length;
+    }
+
+    /** Maps the n-th oldest sample to its array index. */
+    private int physical(int n) {
+        int index = head + n;
+        return index >= times.length ? index - times.length : index;
+    }
+}
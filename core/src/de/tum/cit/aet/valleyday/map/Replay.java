@@ -0,0 +1,40 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.Input;
+
+import java.util.Arrays;
+
+/**
+ * File format shared by {@link ReplayRecorder} and {@link ReplayInput}.
+ * <p>
+ * A replay is gzip-compressed and starts with a header: magic number, version and the map seed.
+ * Then follows one record per tick: the frame time (float), the level the tick ran in (byte) and two
+ * bit masks over {@link #KEYS} (short each) - the keys held and the keys just pressed.
+ */
+final class Replay {
+    static final int MAGIC = 0x56445250;  // "VDRP"
+    static final int VERSION = 1;
+
+    /** The keys the simulation reads. Bit i of a mask stands for KEYS[i]. */
+    static final int[] KEYS = {
+            Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D,
+            Input.Keys.SPACE, Input.Keys.E,
+            Input.Keys.NUM_1, Input.Keys.NUM_2, Input.Keys.NUM_3
+    };
+
+    private static final int[] BITS = new int[Input.Keys.MAX_KEYCODE + 1];
+
+    static {
+        Arrays.fill(BITS, -1);
+        for (int i = 0; i < KEYS.length; i++) {
+            BITS[KEYS[i]] = i;
+        }
+    }
+
+    private Replay() {}
+
+    /** The bit of {@code keycode} in a mask, or -1 if replays do not record that key. */
+    static int bit(int keycode) {
+        return keycode >= 0 && keycode < BITS.length ? BITS[keycode] : -1;
+    }
+}
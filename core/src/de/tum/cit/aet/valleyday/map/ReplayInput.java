@@ -0,0 +1,83 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Plays a replay written by {@link ReplayRecorder} back as input.
+ * <p>
+ * Create the {@link GameMap} with this as input and {@link #getSeed()} as seed. Then, for every
+ * {@link #next()}, start levels until the map is at {@link #getLevel()} and tick it by
+ * {@link #getFrameTime()}. The map then runs exactly as it did while recording.
+ */
+public class ReplayInput implements InputSource, Closeable {
+    private final DataInputStream in;
+    private final long seed;
+    private float frameTime;
+    private int level;
+    private int pressed;
+    private int justPressed;
+
+    public ReplayInput(InputStream stream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (in.readInt() != Replay.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = in.readInt();
+        if (version != Replay.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        this.seed = in.readLong();
+    }
+
+    /**
+     * Reads the next tick.
+     * @return false at the end of the replay.
+     */
+    public boolean next() throws IOException {
+        try {
+            frameTime = in.readFloat();
+        } catch (EOFException e) {
+            return false;
+        }
+        level = in.readUnsignedByte();
+        pressed = in.readUnsignedShort();
+        justPressed = in.readUnsignedShort();
+        return true;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getFrameTime() {
+        return frameTime;
+    }
+
+    /** The level the current tick ran in. */
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        int bit = Replay.bit(keycode);
+        return bit >= 0 && (pressed & (1 << bit)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        int bit = Replay.bit(keycode);
+        return bit >= 0 && (justPressed & (1 << bit)) != 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
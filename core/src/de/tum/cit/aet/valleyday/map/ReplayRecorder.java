@@ -0,0 +1,67 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the input of every tick of a {@link GameMap} into a replay, see {@link Replay} for the format.
+ * <p>
+ * Started with {@link GameMap#startRecording(OutputStream)}. Together with the map seed this is all a
+ * headless run needs to repeat the session tick by tick. If writing fails, the recording stops with
+ * an error in the log and the game goes on.
+ */
+public class ReplayRecorder {
+    private final InputSource input;
+    private final DataOutputStream out;
+    private int tickCount = 0;
+    private boolean failed = false;
+
+    public ReplayRecorder(InputSource input, long seed, OutputStream stream) throws IOException {
+        this.input = input;
+        this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(stream)));
+        out.writeInt(Replay.MAGIC);
+        out.writeInt(Replay.VERSION);
+        out.writeLong(seed);
+    }
+
+    /** Records the input for the tick that is about to run. */
+    void record(float frameTime, int level) {
+        if (failed) return;
+
+        int pressed = 0;
+        int justPressed = 0;
+        for (int i = 0; i < Replay.KEYS.length; i++) {
+            if (input.isKeyPressed(Replay.KEYS[i])) pressed |= 1 << i;
+            if (input.isKeyJustPressed(Replay.KEYS[i])) justPressed |= 1 << i;
+        }
+
+        try {
+            out.writeFloat(frameTime);
+            out.writeByte(level);
+            out.writeShort(pressed);
+            out.writeShort(justPressed);
+            tickCount++;
+        } catch (IOException e) {
+            Gdx.app.error("Replay", "Recording stopped: " + e.getMessage());
+            failed = true;
+        }
+    }
+
+    /** Finishes the file. */
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            Gdx.app.error("Replay", "Could not finish replay: " + e.getMessage());
+        }
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+}
@@ -0,0 +1,216 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs {@link GameMap#tick(float)} on its own thread at a fixed 60 ticks per second.
+ * <p>
+ * After every tick the thread copies the moving parts of the map into a {@link WorldSnapshot} and
+ * publishes it. The render thread reads the two newest snapshots with {@link #beginRead()} /
+ * {@link #endRead()} and draws positions interpolated between them, so a slow render frame does not
+ * slow the game down and a slow tick does not block drawing.
+ * <p>
+ * Anything else that changes the map from the render thread (e.g. starting the next level, which
+ * loads textures and so must run on the GL thread) goes through {@link #runLocked(Runnable)}, and so
+ * does anything that reads map state not in the snapshot.
+ * If the thread falls far behind, it skips the missed time instead of trying to catch up.
+ */
+public class SimulationThread {
+    public static final float TICK = 1f / 60f;
+    private static final long TICK_NANOS = 1_000_000_000L / 60;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    // previous + latest + the reader's pair (which may be two older ones) + the one being written
+    private static final int SNAPSHOT_COUNT = 5;
+
+    private final GameMap map;
+    private final InputLatch input;
+    private final Thread thread;
+    private final Object tickLock = new Object();
+    private final Object snapshotLock = new Object();
+
+    private final WorldSnapshot[] snapshots = new WorldSnapshot[SNAPSHOT_COUNT];
+    // Guarded by snapshotLock
+    private WorldSnapshot previous;
+    private WorldSnapshot latest;
+    private long latestNanos;
+    private WorldSnapshot readPrevious;
+    private WorldSnapshot readLatest;
+    private float readAlpha;
+
+    private volatile boolean running = false;
+    private volatile boolean stopped = false;
+    private long tick = 0;
+
+    public SimulationThread(GameMap map, InputLatch input) {
+        this.map = map;
+        this.input = input;
+        for (int i = 0; i < SNAPSHOT_COUNT; i++) {
+            snapshots[i] = new WorldSnapshot();
+        }
+
+        // Start with the map as it is, so there is something to draw before the first tick
+        snapshots[0].capture(map, 0);
+        previous = snapshots[0];
+        latest = snapshots[0];
+        latestNanos = System.nanoTime();
+
+        this.thread = new Thread(this::run, "Simulation");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops the thread and waits for the current tick to finish.
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Whether the map is ticked. While not running the thread sleeps and publishes nothing; changes
+     * made through {@link #runLocked(Runnable)} then need a {@link #publish()} to show up.
+     */
+    public void setRunning(boolean running) {
+        if (running && !this.running) {
+            this.running = true;
+            LockSupport.unpark(thread);
+        } else {
+            this.running = running;
+        }
+    }
+
+    /**
+     * Runs the action on the calling thread while no tick is in progress.
+     */
+    public void runLocked(Runnable action) {
+        synchronized (tickLock) {
+            action.run();
+        }
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (!stopped) {
+            if (!running) {
+                // Pause, Overlay oder Spawn-Verzögerung: schlafen bis setRunning(true) oder stop()
+                LockSupport.park(this);
+                next = System.nanoTime();
+                continue;
+            }
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+
+            int ticks = 0;
+            while (now >= next && ticks < MAX_CATCH_UP_TICKS) {
+                step();
+                next += TICK_NANOS;
+                ticks++;
+            }
+            if (now >= next) {
+                // Zu weit hinterher: verpasste Zeit verwerfen statt immer weiter aufzuholen
+                next = now + TICK_NANOS;
+            }
+        }
+    }
+
+    private void step() {
+        synchronized (tickLock) {
+            try {
+                if (running) {
+                    input.beginTick();
+                    map.tick(TICK);
+                    tick++;
+                }
+                publishLocked();
+            } catch (RuntimeException e) {
+                Gdx.app.error("Simulation", "Tick failed", e);
+                stopped = true;
+            }
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the map as it is now, e.g. right after {@link #runLocked(Runnable)}
+     * changed it, so the next {@link #beginRead()} does not wait for the next tick to see it.
+     */
+    public void publish() {
+        synchronized (tickLock) {
+            publishLocked();
+        }
+    }
+
+    // Under tickLock: only one thread picks and fills a free snapshot at a time
+    private void publishLocked() {
+        WorldSnapshot target = freeSnapshot();
+        target.capture(map, tick);
+        synchronized (snapshotLock) {
+            previous = latest;
+            latest = target;
+            latestNanos = System.nanoTime();
+        }
+    }
+
+    private WorldSnapshot freeSnapshot() {
+        synchronized (snapshotLock) {
+            for (WorldSnapshot snapshot : snapshots) {
+                if (snapshot != previous && snapshot != latest && snapshot != readPrevious && snapshot != readLatest) {
+                    return snapshot;
+                }
+            }
+        }
+        throw new IllegalStateException("No free snapshot");
+    }
+
+    /**
+     * Pins the two newest snapshots for drawing. They stay unchanged until {@link #endRead()}.
+     */
+    public void beginRead() {
+        synchronized (snapshotLock) {
+            readPrevious = previous;
+            readLatest = latest;
+            // Draw one tick behind the simulation, blending towards the newest snapshot
+            readAlpha = Math.min(1f, (System.nanoTime() - latestNanos) / (float) TICK_NANOS);
+        }
+    }
+
+    public void endRead() {
+        synchronized (snapshotLock) {
+            readPrevious = null;
+            readLatest = null;
+        }
+    }
+
+    public WorldSnapshot getPrevious() {
+        return readPrevious;
+    }
+
+    public WorldSnapshot getLatest() {
+        return readLatest;
+    }
+
+    /** How far to blend from the previous to the latest snapshot, 0..1. */
+    public float getAlpha() {
+        return readAlpha;
+    }
+
+    /**
+     * Blends a value from the previous to the latest snapshot.
+     */
+    public float interpolate(float previousValue, float latestValue) {
+        return previousValue + (latestValue - previousValue) * readAlpha;
+    }
+}
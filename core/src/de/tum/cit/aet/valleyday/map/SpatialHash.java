@@ -0,0 +1,210 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.util.List;
+
+/**
+ * A uniform grid for "what is near this point" queries on moving things.
+ * <p>
+ * The world is divided into square cells of {@code cellSize} tiles. Each cell is hashed into a fixed
+ * bucket table, so the grid is unbounded (wildlife may leave the map) and never has to be resized.
+ * Entries remember their cell, so moving within a cell is just two float writes and a radius query
+ * only looks at the cells the circle overlaps.
+ *
+ * @param <T> The type of the indexed objects.
+ */
+public class SpatialHash<T> {
+    private final float cellSize;
+    private final int bucketMask;
+    private final Entry<T>[] buckets;
+    private int size;
+
+    /**
+     * @param cellSize Edge length of one cell in tiles. Roughly the most common query radius works well.
+     * @param bucketCount Number of hash buckets, rounded up to a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHash(float cellSize, int bucketCount) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.cellSize = cellSize;
+        this.bucketMask = buckets - 1;
+        this.buckets = (Entry<T>[]) new Entry[buckets];
+    }
+
+    public Entry<T> insert(T item, float x, float y) {
+        Entry<T> entry = new Entry<>(item);
+        entry.x = x;
+        entry.y = y;
+        entry.cellX = cell(x);
+        entry.cellY = cell(y);
+        link(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Updates the position of an entry. Only re-buckets it if it crossed into another cell.
+     * An entry that was removed (or cleared) only keeps the position, it is not put back.
+     */
+    public void move(Entry<T> entry, float x, float y) {
+        entry.x = x;
+        entry.y = y;
+        int cellX = cell(x);
+        int cellY = cell(y);
+        if (entry.bucket < 0) {
+            entry.cellX = cellX;
+            entry.cellY = cellY;
+            return;
+        }
+        if (cellX != entry.cellX || cellY != entry.cellY) {
+            unlink(entry);
+            entry.cellX = cellX;
+            entry.cellY = cellY;
+            link(entry);
+        }
+    }
+
+    public void remove(Entry<T> entry) {
+        if (entry.bucket >= 0) {
+            unlink(entry);
+            size--;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            Entry<T> entry = buckets[i];
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.prev = null;
+                entry.next = null;
+                entry.bucket = -1;
+                entry = next;
+            }
+            buckets[i] = null;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds every item strictly closer than {@code radius} to (x, y) to {@code out}.
+     * @return The number of items added.
+     */
+    public int queryRadius(float x, float y, float radius, List<? super T> out) {
+        int minX = cell(x - radius);
+        int maxX = cell(x + radius);
+        int minY = cell(y - radius);
+        int maxY = cell(y + radius);
+        float radius2 = radius * radius;
+        int found = 0;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                Entry<T> entry = buckets[bucket(cx, cy)];
+                while (entry != null) {
+                    // Different cells can share a bucket, only take the ones that really are in this cell
+                    if (entry.cellX == cx && entry.cellY == cy) {
+                        float dx = entry.x - x;
+                        float dy = entry.y - y;
+                        if (dx * dx + dy * dy < radius2) {
+                            out.add(entry.item);
+                            found++;
+                        }
+                    }
+                    entry = entry.next;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds every item inside the rectangle (bounds included) to {@code out}, in no particular order.
+     * @return The number of items added.
+     */
+    public int queryRect(float minX, float minY, float maxX, float maxY, List<? super T> out) {
+        int minCellX = cell(minX);
+        int maxCellX = cell(maxX);
+        int minCellY = cell(minY);
+        int maxCellY = cell(maxY);
+        int found = 0;
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Entry<T> entry = buckets[bucket(cx, cy)];
+                while (entry != null) {
+                    if (entry.cellX == cx && entry.cellY == cy
+                            && entry.x >= minX && entry.x <= maxX && entry.y >= minY && entry.y <= maxY) {
+                        out.add(entry.item);
+                        found++;
+                    }
+                    entry = entry.next;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int bucket(int cellX, int cellY) {
+        int hash = cellX * 73856093 ^ cellY * 19349663;
+        return (hash ^ (hash >>> 16)) & bucketMask;
+    }
+
+    private void link(Entry<T> entry) {
+        int bucket = bucket(entry.cellX, entry.cellY);
+        Entry<T> head = buckets[bucket];
+        entry.bucket = bucket;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        buckets[bucket] = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = -1;
+    }
+
+    /**
+     * The handle of one indexed item. Keep it to move or remove the item later.
+     */
+    public static final class Entry<T> {
+        private final T item;
+        private float x;
+        private float y;
+        private int cellX;
+        private int cellY;
+        private int bucket = -1;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(T item) {
+            this.item = item;
+        }
+
+        public T getItem() {
+            return item;
+        }
+    }
+}
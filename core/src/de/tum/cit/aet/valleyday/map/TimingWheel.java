@@ -0,0 +1,187 @@
+package de.tum.cit.aet.valleyday.map;
+
+/**
+ * A hierarchical timing wheel for everything in the game that happens "after X seconds".
+ * <p>
+ * Time advances in fixed ticks of {@link #TICK} seconds. Level 0 has one slot per tick,
+ * every higher level has one slot per full turn of the level below it. An event sits in the
+ * lowest level that can hold its deadline and moves down a level when the wheel below wraps
+ * around, so advancing the wheel only touches the slot that is due - no matter how many
+ * events are waiting. Scheduling and cancelling are O(1).
+ * <p>
+ * Events are reusable: an entity creates its {@link Event} once and reschedules it,
+ * which keeps recurring timers free of allocations.
+ */
+public class TimingWheel {
+    /** Length of one wheel tick in seconds. */
+    public static final float TICK = 1f / 60f;
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /** Sentinels of the circular event lists, one per slot. */
+    private final Event[][] slots = new Event[LEVELS][SLOTS];
+    /** Events too far in the future for the top level, re-sorted whenever the top level wraps. */
+    private final Event overflow = new Event();
+
+    private long currentTick = 0;
+    private float accumulator = 0;
+
+    public TimingWheel() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots[level][slot] = new Event();
+            }
+        }
+    }
+
+    /**
+     * Creates an event and schedules it.
+     * @param delay Seconds from now, rounded to whole ticks. Events always fire at least one tick later.
+     * @param action What to run when the event fires.
+     */
+    public Event schedule(float delay, Runnable action) {
+        Event event = new Event(action);
+        schedule(event, delay);
+        return event;
+    }
+
+    /**
+     * (Re)schedules an existing event. A pending event is moved to the new deadline.
+     */
+    public void schedule(Event event, float delay) {
+        cancel(event);
+        long ticks = Math.max(1, Math.round(delay / TICK));
+        event.deadline = currentTick + ticks;
+        insert(event);
+    }
+
+    public void cancel(Event event) {
+        if (event.isPending()) {
+            unlink(event);
+        }
+    }
+
+    /**
+     * Moves time forward and fires every event that became due, in deadline order.
+     * Events scheduled from inside a callback fire in a later tick.
+     */
+    public void advance(float seconds) {
+        accumulator += seconds;
+        while (accumulator >= TICK) {
+            accumulator -= TICK;
+            step();
+        }
+    }
+
+    private void step() {
+        long tick = ++currentTick;
+
+        // Move events down from every level whose lower neighbour just wrapped around.
+        // Highest level first, so an event can fall through several levels in one tick.
+        if ((tick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+            cascade(overflow);
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                cascade(slots[level][slot]);
+            }
+        }
+
+        Event sentinel = slots[0][(int) (tick & SLOT_MASK)];
+        while (sentinel.next != sentinel) {
+            Event event = sentinel.next;
+            unlink(event);
+            event.action.run();
+        }
+    }
+
+    private void cascade(Event sentinel) {
+        // Detach the whole list first, re-inserting may put events back into the same slot
+        Event first = sentinel.next;
+        Event last = sentinel.prev;
+        if (first == sentinel) {
+            return;
+        }
+        sentinel.next = sentinel;
+        sentinel.prev = sentinel;
+        last.next = null;
+
+        Event event = first;
+        while (event != null) {
+            Event next = event.next;
+            event.prev = null;
+            event.next = null;
+            insert(event);
+            event = next;
+        }
+    }
+
+    private void insert(Event event) {
+        // The level is the highest 6-bit group in which deadline and current tick differ
+        long diff = event.deadline ^ currentTick;
+        int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+
+        Event sentinel;
+        if (level >= LEVELS) {
+            sentinel = overflow;
+        } else {
+            int slot = (int) ((event.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+            sentinel = slots[level][slot];
+        }
+
+        // Append at the tail so events with the same deadline fire in scheduling order
+        event.prev = sentinel.prev;
+        event.next = sentinel;
+        sentinel.prev.next = event;
+        sentinel.prev = event;
+    }
+
+    private void unlink(Event event) {
+        event.prev.next = event.next;
+        event.next.prev = event.prev;
+        event.prev = null;
+        event.next = null;
+    }
+
+    /** Seconds left until the event fires, or 0 if it is not scheduled. */
+    public float remaining(Event event) {
+        if (!event.isPending()) {
+            return 0;
+        }
+        return Math.max(0, (event.deadline - currentTick) * TICK - accumulator);
+    }
+
+    /** Seconds the wheel has advanced in total. */
+    public float getTime() {
+        return currentTick * TICK + accumulator;
+    }
+
+    /**
+     * A callback with a deadline. Create once and reschedule as often as needed.
+     */
+    public static final class Event {
+        private final Runnable action;
+        private long deadline;
+        private Event prev;
+        private Event next;
+
+        public Event(Runnable action) {
+            this.action = action;
+        }
+
+        /** List sentinel, points to itself while the list is empty. */
+        private Event() {
+            this.action = null;
+            this.prev = this;
+            this.next = this;
+        }
+
+        public boolean isPending() {
+            return next != null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as a {@link WildlifeVisitor}, ticked by {@link WildlifeSystem}.
+ */
+public class WildlifeComponent implements Component {
+    public final WildlifeVisitor visitor;
+
+    public WildlifeComponent(WildlifeVisitor visitor) {
+        this.visitor = visitor;
+    }
+}
@@ -0,0 +1,37 @@
+package de.tum.cit.aet.valleyday.map;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs {@link WildlifeVisitor#decide()} for a range of visitors as a fork/join task, halving the
+ * range until it is small enough to do in one go.
+ * <p>
+ * Each visitor only writes its own plan, so the tasks need no locking. Everything that changes the
+ * map is left to {@link WildlifeVisitor#commit()} afterwards.
+ */
+class WildlifeDecisions extends RecursiveAction {
+    // Deciding is cheap for most visitors, so a task needs a few hundred to be worth forking
+    private static final int BATCH_SIZE = 256;
+
+    private final WildlifeVisitor[] visitors;
+    private final int from;
+    private final int to;
+
+    WildlifeDecisions(WildlifeVisitor[] visitors, int from, int to) {
+        this.visitors = visitors;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= BATCH_SIZE) {
+            for (int i = from; i < to; i++) {
+                visitors[i].decide();
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new WildlifeDecisions(visitors, from, middle), new WildlifeDecisions(visitors, middle, to));
+    }
+}
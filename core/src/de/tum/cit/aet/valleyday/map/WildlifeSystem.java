@@ -0,0 +1,81 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ticks the awake wildlife in two phases. Every visitor first decides what to do, in parallel once
+ * there are many of them. Then the decisions are committed one by one in entity order, which is the
+ * only place that touches tiles, timers and velocities - so the result does not depend on thread timing.
+ * <p>
+ * Sleeping visitors are not in the engine, see {@link GameMap}.
+ */
+class WildlifeSystem extends EntitySystem {
+    // From this many visitors on, they decide in parallel on the common fork/join pool
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final ComponentMapper<WildlifeComponent> wildlife = ComponentMapper.getFor(WildlifeComponent.class);
+
+    private final GameMap map;
+    private ImmutableArray<Entity> entities;
+    private WildlifeVisitor[] visitors = new WildlifeVisitor[64];
+    private boolean parallel = true;
+    private FrameProfiler profiler;
+
+    WildlifeSystem(GameMap map, int priority) {
+        super(priority);
+        this.map = map;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(WildlifeComponent.class).get());
+    }
+
+    void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.WILDLIFE);
+        tickWildlife();
+        if (profiler != null) profiler.end(FrameProfiler.Phase.WILDLIFE);
+    }
+
+    private void tickWildlife() {
+        int count = entities.size();
+        if (count > visitors.length) {
+            visitors = new WildlifeVisitor[Math.max(count, visitors.length * 2)];
+        }
+        for (int i = 0; i < count; i++) {
+            visitors[i] = wildlife.get(entities.get(i)).visitor;
+        }
+
+        if (parallel && count >= PARALLEL_THRESHOLD) {
+            // The field rebuilds lazily on first read, that must not happen inside the tasks
+            map.getCropFlowField().ensureBuilt();
+            ForkJoinPool.commonPool().invoke(new WildlifeDecisions(visitors, 0, count));
+        } else {
+            for (int i = 0; i < count; i++) {
+                visitors[i].decide();
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            visitors[i].commit();
+        }
+        // Keine Referenzen auf entfernte Visitors behalten
+        Arrays.fill(visitors, 0, count, null);
+    }
+}
@@ -1,16 +1,10 @@
 package de.tum.cit.aet.valleyday.map;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.CircleShape;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.aet.valleyday.texture.Drawable;
 import de.tum.cit.aet.valleyday.texture.Textures;
-import de.tum.cit.aet.valleyday.tiles.Crop;
-import de.tum.cit.aet.valleyday.tiles.SoilTile;
-import de.tum.cit.aet.valleyday.tiles.Tile;
+import de.tum.cit.aet.valleyday.tiles.TileStorage;
 
 import java.util.Random;
 
@@ -19,122 +13,199 @@ public enum WildlifeType {
         SNAIL, RAT, CROW
     }
 
-    private final Body hitbox;
+    // Collides with nothing (may walk through walls), so it moves without a Box2D body
+    private final MoverComponent movement;
+    private final Entity entity = new Entity();
     private final WildlifeType type;
     private final GameMap gameMap;
-    private float moveTimer = 0;
+    private final TimingWheel.Event moveTimer = new TimingWheel.Event(this::chooseDirection);
     private float moveDirection = 0;
     private float targetX = -1;
     private float targetY = -1;
-    private float searchTimer = 0;
+    private final TimingWheel.Event searchTimer = new TimingWheel.Event(this::searchForCrop);
     private static final float SEARCH_INTERVAL = 3.0f;
-    private static final Random random = new Random();
 
-    public WildlifeVisitor(World world, float x, float y, WildlifeType type, GameMap gameMap) {
+    // Flow field state: the tile and field version the current direction was read for
+    private int flowTileX = Integer.MIN_VALUE;
+    private int flowTileY = Integer.MIN_VALUE;
+    private int flowVersion = -1;
+    private boolean followingFlow = false;
+    private boolean fleeing = false;
+    // Own generator per visitor: no contention between threads, and the same seed gives the same walk
+    private final Random random;
+
+    // Planned by decide(), carried out by commit()
+    private static final byte STEER_KEEP = 0;
+    private static final byte STEER_FLOW = 1;
+    private static final byte STEER_LOST = 2;
+    private boolean stealPending = false;
+    private int stealX;
+    private int stealY;
+    private byte steer = STEER_KEEP;
+    private float steerDirection;
+
+    /**
+     * @param mover Where the visitor moves, it takes a slot there until {@link #removeFromMover()}.
+     * @param seed Seed for this visitor's random walk.
+     */
+    public WildlifeVisitor(KinematicMover mover, float x, float y, WildlifeType type, GameMap gameMap, long seed) {
         this.type = type;
         this.gameMap = gameMap;
-        this.hitbox = createHitbox(world, x, y);
-    }
+        this.random = new Random(seed);
+        this.movement = new MoverComponent(mover, mover.add(x, y));
+        entity.add(movement).add(new WildlifeComponent(this));
 
-    private Body createHitbox(World world, float startX, float startY) {
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set(startX, startY);
-        Body body = world.createBody(bodyDef);
+        // Search and pick a direction on the first tick
+        gameMap.getScheduler().schedule(searchTimer, 0);
+        gameMap.getScheduler().schedule(moveTimer, 0);
+    }
 
-        CircleShape circle = new CircleShape();
-        circle.setRadius(0.3f);
+    public void tick(float frameTime) {
+        decide();
+        commit();
+    }
 
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = circle;
-        fixtureDef.density = 1.0f;
-        fixtureDef.filter.categoryBits = GameMap.CATEGORY_WILDLIFE;
-        fixtureDef.filter.maskBits = GameMap.MASK_WILDLIFE;  // Kollidiert mit nichts (kann durch Wände gehen)
+    /**
+     * First half of a tick: reads the map and plans what to do, without changing anything but this
+     * visitor's own plan. Many visitors can decide at the same time on different threads, as long as
+     * nothing writes to the map meanwhile and the flow field is built.
+     */
+    void decide() {
+        // Richtung und Suche laufen über den Scheduler, pro Frame nur prüfen ob auf reifer Pflanze - dann stehlen
+        float x = getX();
+        float y = getY();
+        stealX = (int) x;
+        stealY = (int) y;
+        TileStorage tiles = gameMap.getTileStorage();
+        stealPending = tiles.contains(stealX, stealY) && tiles.hasMatureCrop(stealX, stealY);
+
+        steer = decideSteering(x, y);
+    }
 
-        body.createFixture(fixtureDef);
-        circle.dispose();
-        body.setUserData(this);
-        return body;
+    /**
+     * Second half of a tick: carries out the plan from {@link #decide()} - steals the crop, updates
+     * timers and sets the velocity. Runs on the tick thread, one visitor after another.
+     */
+    void commit() {
+        // Nachsehen, ob ein anderer Visitor in diesem Tick schon gestohlen hat
+        TileStorage tiles = gameMap.getTileStorage();
+        if (stealPending && tiles.hasMatureCrop(stealX, stealY)) {
+            tiles.removeCrop(stealX, stealY);
+            targetX = -1;
+            targetY = -1;
+        }
+        stealPending = false;
+
+        if (steer == STEER_FLOW) {
+            followingFlow = true;
+            gameMap.getScheduler().cancel(moveTimer);
+            moveDirection = steerDirection;
+            applyVelocity();
+        } else if (steer == STEER_LOST) {
+            // Lost the path (crop gone or off the map): back to the old behaviour right away
+            followingFlow = false;
+            gameMap.getScheduler().schedule(moveTimer, 0);
+        }
+        steer = STEER_KEEP;
     }
 
-    public void tick(float frameTime) {
-        moveTimer -= frameTime;
-        searchTimer -= frameTime;
+    /**
+     * Steers onto the neighbouring tile closest to a mature crop. The field is only read again
+     * after entering a new tile or when the field changed, so this is O(1) and usually a no-op.
+     */
+    private byte decideSteering(float x, float y) {
+        if (fleeing) return STEER_KEEP;
+
+        FlowField field = gameMap.getCropFlowField();
+        int tileX = (int) Math.floor(x);
+        int tileY = (int) Math.floor(y);
+        int version = field.getVersion();
+        if (tileX == flowTileX && tileY == flowTileY && version == flowVersion) return STEER_KEEP;
+        flowTileX = tileX;
+        flowTileY = tileY;
+        flowVersion = version;
+
+        int next = field.nextStep(tileX, tileY);
+        if (next < 0) {
+            return followingFlow ? STEER_LOST : STEER_KEEP;
+        }
 
+        float dx = field.tileX(next) + 0.5f - x;
+        float dy = field.tileY(next) + 0.5f - y;
+        steerDirection = (float) Math.toDegrees(Math.atan2(dy, dx));
+        return STEER_FLOW;
+    }
+
+    private void searchForCrop() {
         // Periodisch nach reifen Pflanzen suchen
-        if (searchTimer <= 0) {
-            searchTimer = SEARCH_INTERVAL;
-            findNearestMatureCrop();
+        findNearestMatureCrop();
+        gameMap.getScheduler().schedule(searchTimer, SEARCH_INTERVAL);
+    }
+
+    private void chooseDirection() {
+        if (fleeing) {
+            // Done running away, read the flow field again on the next tick
+            fleeing = false;
+            flowVersion = -1;
         }
 
-        // Bewegungsrichtung bestimmen
-        if (moveTimer <= 0) {
-            if (targetX >= 0 && targetY >= 0) {
-                // Intelligente Bewegung: Richtung zum Ziel berechnen
-                float dx = targetX - getX();
-                float dy = targetY - getY();
-                moveDirection = (float) Math.toDegrees(Math.atan2(dy, dx));
-            } else {
-                // Zufällige Bewegung wenn kein Ziel
-                moveDirection = random.nextFloat() * 360;
-            }
-            moveTimer = 1.0f + random.nextFloat() * 2.0f;
+        if (targetX >= 0 && targetY >= 0) {
+            // Kein Pfad über das Flow Field (z.B. außerhalb der Map): direkt auf das Ziel zu
+            float dx = targetX - getX();
+            float dy = targetY - getY();
+            moveDirection = (float) Math.toDegrees(Math.atan2(dy, dx));
+        } else {
+            // Zufällige Bewegung wenn kein Ziel
+            moveDirection = random.nextFloat() * 360;
         }
+        applyVelocity();
+        gameMap.getScheduler().schedule(moveTimer, 1.0f + random.nextFloat() * 2.0f);
+    }
 
+    private void applyVelocity() {
         // Wildlife bewegt sich mit 40% der Spielergeschwindigkeit
         float moveSpeed = gameMap.getCurrentSpeed() * 0.4f;
         float rad = (float) Math.toRadians(moveDirection);
         float vx = (float) Math.cos(rad) * moveSpeed;
         float vy = (float) Math.sin(rad) * moveSpeed;
 
-        hitbox.setLinearVelocity(vx, vy);
-
-        // Prüfen ob auf reifer Pflanze - dann stehlen
-        tryStealCrop();
+        movement.mover.setVelocity(movement.slot, vx, vy);
     }
 
-    private void findNearestMatureCrop() {
-        if (gameMap == null) return;
-
-        Tile[][] tiles = gameMap.getTiles();
-        float nearestDist = Float.MAX_VALUE;
-        targetX = -1;
-        targetY = -1;
-
-        for (int x = 0; x < gameMap.getWidth(); x++) {
-            for (int y = 0; y < gameMap.getHeight(); y++) {
-                Tile tile = tiles[x][y];
-                if (tile instanceof SoilTile) {
-                    SoilTile soil = (SoilTile) tile;
-                    if (soil.hasCrop() && soil.getCrop().isMature()) {
-                        float dx = x - getX();
-                        float dy = y - getY();
-                        float dist = dx * dx + dy * dy;
-                        if (dist < nearestDist) {
-                            nearestDist = dist;
-                            targetX = x + 0.5f;
-                            targetY = y + 0.5f;
-                        }
-                    }
-                }
-            }
-        }
+    /**
+     * Stops this visitor's timers. Call before dropping the visitor.
+     */
+    public void cancelTimers() {
+        gameMap.getScheduler().cancel(moveTimer);
+        gameMap.getScheduler().cancel(searchTimer);
     }
 
-    private void tryStealCrop() {
-        if (gameMap == null) return;
+    /**
+     * Stops timers and physics while the visitor's chunk is not simulated.
+     */
+    public void sleep() {
+        cancelTimers();
+        movement.mover.setVelocity(movement.slot, 0, 0);
+    }
 
-        int tileX = (int) getX();
-        int tileY = (int) getY();
+    public void wake() {
+        fleeing = false;
+        followingFlow = false;
+        flowVersion = -1;
+        gameMap.getScheduler().schedule(searchTimer, 0);
+        gameMap.getScheduler().schedule(moveTimer, 0);
+    }
 
-        Tile tile = gameMap.getTile(tileX, tileY);
-        if (tile instanceof SoilTile) {
-            SoilTile soil = (SoilTile) tile;
-            if (soil.hasCrop() && soil.getCrop().isMature()) {
-                soil.removeCrop();
-                targetX = -1;
-                targetY = -1;
-            }
+    private void findNearestMatureCrop() {
+        // Shared index of mature crops instead of scanning every tile
+        CropIndex crops = gameMap.getCropIndex();
+        int tile = crops.findNearest(getX(), getY());
+        if (tile >= 0) {
+            targetX = crops.tileX(tile) + 0.5f;
+            targetY = crops.tileY(tile) + 0.5f;
+        } else {
+            targetX = -1;
+            targetY = -1;
         }
     }
 
@@ -149,17 +220,31 @@ public TextureRegion getCurrentAppearance() {
 
     @Override
     public float getX() {
-        return hitbox.getPosition().x;
+        return movement.mover.getX(movement.slot);
     }
 
     @Override
     public float getY() {
-        return hitbox.getPosition().y;
+        return movement.mover.getY(movement.slot);
+    }
+
+    /**
+     * Frees the visitor's mover slot. Call after {@link #cancelTimers()} when dropping the visitor.
+     */
+    public void removeFromMover() {
+        movement.mover.remove(movement.slot);
+    }
+
+    public Entity getEntity() {
+        return entity;
     }
 
     public void frighten() {
         // Wildlife runs away
+        fleeing = true;
+        followingFlow = false;
         moveDirection += 180;
-        moveTimer = 2.0f;
+        applyVelocity();
+        gameMap.getScheduler().schedule(moveTimer, 2.0f);
     }
 }
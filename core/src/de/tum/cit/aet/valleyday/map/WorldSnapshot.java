@@ -0,0 +1,154 @@
+package de.tum.cit.aet.valleyday.map;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Positions and looks of everything that moves, copied out of the {@link GameMap} after one tick,
+ * plus the game state the screen shows (game over, level complete, remaining time).
+ * <p>
+ * The simulation thread fills a snapshot and then publishes it; from then on it is only read, until
+ * {@link SimulationThread} hands it out for refilling once no reader holds it anymore. The render
+ * thread draws from two consecutive snapshots and interpolates between them.
+ */
+public final class WorldSnapshot {
+    private long tick;
+
+    private boolean gameOver;
+    private boolean levelComplete;
+    private GameMap.GameOverReason gameOverReason;
+    private float remainingTime;
+
+    private float playerX;
+    private float playerY;
+    private TextureRegion playerAppearance;
+
+    private boolean chaserActive;
+    private float chaserX;
+    private float chaserY;
+    private TextureRegion chaserAppearance;
+
+    private int wildlifeCount;
+    private WildlifeVisitor[] wildlife = new WildlifeVisitor[64];
+    private float[] wildlifeX = new float[64];
+    private float[] wildlifeY = new float[64];
+    private TextureRegion[] wildlifeAppearance = new TextureRegion[64];
+
+    /** Copies the current state of the map. Simulation thread only, before publishing. */
+    void capture(GameMap map, long tick) {
+        this.tick = tick;
+        gameOver = map.isGameOver();
+        levelComplete = map.isLevelComplete();
+        gameOverReason = map.getGameOverReason();
+        // Liest den TimingWheel, geht also nur hier unter dem Tick-Lock
+        remainingTime = map.getRemainingTime();
+
+        Player player = map.getPlayer();
+        playerX = player.getX();
+        playerY = player.getY();
+        playerAppearance = player.getCurrentAppearance();
+
+        ChaserZombie chaser = map.getChaserZombie();
+        chaserActive = chaser != null && chaser.isActive();
+        if (chaserActive) {
+            chaserX = chaser.getX();
+            chaserY = chaser.getY();
+            chaserAppearance = chaser.getCurrentAppearance();
+        }
+
+        List<WildlifeVisitor> visitors = map.getWildlifeVisitors();
+        wildlifeCount = visitors.size();
+        if (wildlifeCount > wildlife.length) {
+            int capacity = Math.max(wildlifeCount, wildlife.length * 2);
+            wildlife = Arrays.copyOf(wildlife, capacity);
+            wildlifeX = Arrays.copyOf(wildlifeX, capacity);
+            wildlifeY = Arrays.copyOf(wildlifeY, capacity);
+            wildlifeAppearance = Arrays.copyOf(wildlifeAppearance, capacity);
+        }
+        for (int i = 0; i < wildlifeCount; i++) {
+            WildlifeVisitor visitor = visitors.get(i);
+            wildlife[i] = visitor;
+            wildlifeX[i] = visitor.getX();
+            wildlifeY[i] = visitor.getY();
+            wildlifeAppearance[i] = visitor.getCurrentAppearance();
+        }
+        // Drop references to visitors that are gone
+        Arrays.fill(wildlife, wildlifeCount, wildlife.length, null);
+    }
+
+    /** Number of the simulation tick this snapshot was taken after. */
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isLevelComplete() {
+        return levelComplete;
+    }
+
+    public GameMap.GameOverReason getGameOverReason() {
+        return gameOverReason;
+    }
+
+    /** Seconds left in the level when the snapshot was taken. */
+    public float getRemainingTime() {
+        return remainingTime;
+    }
+
+    public float getPlayerX() {
+        return playerX;
+    }
+
+    public float getPlayerY() {
+        return playerY;
+    }
+
+    public TextureRegion getPlayerAppearance() {
+        return playerAppearance;
+    }
+
+    public boolean isChaserActive() {
+        return chaserActive;
+    }
+
+    public float getChaserX() {
+        return chaserX;
+    }
+
+    public float getChaserY() {
+        return chaserY;
+    }
+
+    public TextureRegion getChaserAppearance() {
+        return chaserAppearance;
+    }
+
+    public int getWildlifeCount() {
+        return wildlifeCount;
+    }
+
+    public float getWildlifeX(int index) {
+        return wildlifeX[index];
+    }
+
+    public float getWildlifeY(int index) {
+        return wildlifeY[index];
+    }
+
+    public TextureRegion getWildlifeAppearance(int index) {
+        return wildlifeAppearance[index];
+    }
+
+    /**
+     * Where the visitor at {@code index} of this snapshot was in an {@code older} one, or -1 if it is
+     * not at the same index there (the list order changes when visitors fall asleep).
+     */
+    public int indexIn(WorldSnapshot older, int index) {
+        return index < older.wildlifeCount && older.wildlife[index] == wildlife[index] ? index : -1;
+    }
+}
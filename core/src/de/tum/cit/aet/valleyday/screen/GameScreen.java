@@ -6,19 +6,30 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import de.tum.cit.aet.valleyday.ValleyDayGame;
+import de.tum.cit.aet.valleyday.debug.FrameProfiler;
+import de.tum.cit.aet.valleyday.debug.ProfilerOverlay;
 import de.tum.cit.aet.valleyday.map.ChaserZombie;
 import de.tum.cit.aet.valleyday.map.GameMap;
 import de.tum.cit.aet.valleyday.map.GameObject;
+import de.tum.cit.aet.valleyday.map.InputLatch;
 import de.tum.cit.aet.valleyday.map.Player;
+import de.tum.cit.aet.valleyday.map.SimulationThread;
 import de.tum.cit.aet.valleyday.map.WildlifeVisitor;
-import de.tum.cit.aet.valleyday.tiles.GroundTile;
-import de.tum.cit.aet.valleyday.tiles.Tile;
+import de.tum.cit.aet.valleyday.map.WorldSnapshot;
+import de.tum.cit.aet.valleyday.texture.Drawable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class GameScreen implements Screen {
     private final ValleyDayGame game;
@@ -28,6 +39,38 @@ public class GameScreen implements Screen {
     private BitmapFont font;
     private ShapeRenderer shapeRenderer;
     private GlyphLayout glyphLayout;
+    // Level, Timer und Hinweis; neu gesetzt wird nur, wenn sich ein Wert ändert
+    private final Hud hud;
+    // Overlay-Texte mit Zahlen, damit auch die Overlay-Frames keine Strings anlegen
+    private final StringBuilder overlayText = new StringBuilder(32);
+    // F3: Zeiten pro Phase, GL-Aufrufe und Allokationen
+    private final FrameProfiler profiler;
+    private final ProfilerOverlay profilerOverlay;
+    // Statische Tiles, nur geänderte Chunks werden neu aufgebaut
+    private TileCache tileCache;
+    private final Runnable updateTileCache = this::updateTileCache;
+    // Sichtbarer Bereich der Kamera in Tiles, gesetzt in updateCamera()
+    private float visibleMinX;
+    private float visibleMinY;
+    private float visibleMaxX;
+    private float visibleMaxY;
+    private final List<GameObject> visibleObjects = new ArrayList<>();
+    private final List<Drawable> visibleActors = new ArrayList<>();
+    // Letzter Frame der Welt, solange sie stillsteht (Pause, Level geschafft, Game Over)
+    private FrameBuffer worldFrame;
+    private boolean worldCached = false;
+    private boolean frameCacheSupported = true;
+    private boolean idle = false;
+
+    // Nur im Thread-Modus: Simulation läuft getrennt, gezeichnet wird aus ihren Snapshots
+    private InputLatch inputLatch;
+    private SimulationThread simulation;
+
+    // Spielstand, aus dem der Frame gezeichnet wird (im Thread-Modus aus dem Snapshot), siehe readState()
+    private boolean gameOver = false;
+    private boolean levelComplete = false;
+    private GameMap.GameOverReason gameOverReason = GameMap.GameOverReason.NONE;
+    private float remainingTime;
 
     // Spawn delay
     private float spawnDelay = 1.5f;
@@ -49,16 +92,40 @@ public GameScreen(ValleyDayGame game) {
         this.font = new BitmapFont();
         this.shapeRenderer = new ShapeRenderer();
         this.glyphLayout = new GlyphLayout();
+        this.hud = new Hud(batch, font);
+        this.profiler = new FrameProfiler(batch);
+        this.profilerOverlay = new ProfilerOverlay(profiler);
         Gdx.app.log("GameScreen", "Creating GameScreen");
 
         // GameMap handles everything internally
-        this.gameMap = new GameMap(game);
+        if (game.isThreadedSimulation()) {
+            this.inputLatch = new InputLatch();
+            this.gameMap = new GameMap(game, inputLatch, true);
+            startRecording();
+            this.simulation = new SimulationThread(gameMap, inputLatch);
+            this.simulation.start();
+        } else {
+            this.gameMap = new GameMap(game);
+            startRecording();
+        }
+
+        this.tileCache = new TileCache(gameMap);
 
         // Start paused to show initial menu
         this.isPaused = true;
         this.gameStarted = false;
     }
 
+    private void startRecording() {
+        String path = game.getRecordPath();
+        if (path == null) return;
+        try {
+            gameMap.startRecording(Gdx.files.local(path).write(false));
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Could not record to " + path + ": " + e.getMessage());
+        }
+    }
+
     @Override
     public void show() {
         Gdx.app.log("GameScreen", "Showing gameplay");
@@ -73,13 +140,25 @@ public void show() {
 
     @Override
     public void render(float delta) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            toggleProfiler();
+        }
+        profiler.beginFrame();
+        // Im Thread-Modus liest der ganze Frame nur die hier festgehaltenen Snapshots
+        if (simulation != null) {
+            simulation.beginRead();
+        }
+        readState();
+
         // Clear screen
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1f);
         Gdx.gl.glClear(com.badlogic.gdx.graphics.GL20.GL_COLOR_BUFFER_BIT);
 
+        profiler.begin(FrameProfiler.Phase.INPUT);
+
         // Handle pause toggle with SPACE
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            if (!gameMap.isGameOver() && !gameMap.isLevelComplete()) {
+            if (!gameOver && !levelComplete) {
                 isPaused = !isPaused;
             }
         }
@@ -94,10 +173,12 @@ public void render(float delta) {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             if (isPaused) {
                 // In pause menu, ESC exits to main menu
+                endRead();
                 game.returnToMenu();
                 return;
-            } else if (gameMap.isGameOver()) {
+            } else if (gameOver) {
                 // In game over state, ESC exits to main menu
+                endRead();
                 game.returnToMenu();
                 return;
             } else {
@@ -107,6 +188,7 @@ public void render(float delta) {
         }
 
         // Only update game logic if not paused
+        boolean ticking = false;
         if (!isPaused) {
             // Handle spawn delay
             if (!playerVisible) {
@@ -118,95 +200,201 @@ public void render(float delta) {
 
             if (gameMap != null) {
                 // Level-Übergang: Warte auf Enter-Taste
-                if (gameMap.isLevelComplete() && !gameMap.isGameOver()) {
+                if (levelComplete && !gameOver) {
                     if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
-                        gameMap.startNextLevel();
+                        if (simulation != null) {
+                            // Lädt Texturen, muss also hier auf dem GL-Thread laufen - nur nicht mitten im Tick
+                            simulation.runLocked(gameMap::startNextLevel);
+                            // Den neuen Level sofort als Snapshot, sonst zeigt der Frame noch den alten
+                            simulation.publish();
+                            simulation.endRead();
+                            simulation.beginRead();
+                        } else {
+                            gameMap.startNextLevel();
+                        }
+                        readState();
                         spawnDelay = 1.5f;
                         playerVisible = false;
                     }
                 }
 
-                if (playerVisible && !gameMap.isGameOver() && !gameMap.isLevelComplete()) {
-                    gameMap.tick(delta);
+                if (playerVisible && !gameOver && !levelComplete) {
+                    ticking = true;
+                    if (simulation == null) {
+                        profiler.end(FrameProfiler.Phase.INPUT);
+                        profiler.begin(FrameProfiler.Phase.TICK);
+                        gameMap.tick(delta);
+                        readState();
+                        profiler.end(FrameProfiler.Phase.TICK);
+                        profiler.begin(FrameProfiler.Phase.INPUT);
+                    }
                 }
             }
         }
+        if (simulation != null) {
+            if (ticking) {
+                inputLatch.capture();
+            }
+            simulation.setRunning(ticking);
+        }
+        profiler.end(FrameProfiler.Phase.INPUT);
 
-        // Always update camera and render (even when paused)
+        // Always render (even when paused); a world that cannot change is drawn once into the frame cache
         if (gameMap != null) {
-            updateCamera();
-
-            // ========== RENDER ORDER (LAYERED) ==========
-            // LAYER 1: TMX Background (pretty graphics from Tiled)
-            gameMap.renderTmxBackground(camera);
-
-            // LAYER 2: Ground tiles (ONLY if no TMX map loaded)
-            if (!gameMap.hasTmxMap()) {
-                batch.setProjectionMatrix(camera.combined);
-                batch.begin();
-                renderGroundLayer();
-                batch.end();
+            boolean worldStatic = !ticking && (isPaused || levelComplete || gameOver);
+            setIdle(worldStatic);
+            if (!worldStatic || !renderCachedWorld()) {
+                worldCached = false;
+                renderWorld();
             }
-
-            // LAYER 3: Gameplay objects (tiles, player, etc.)
-            batch.setProjectionMatrix(camera.combined);
-            batch.begin();
-            renderGameplayLayer();
-            batch.end();
         }
 
         // HUD - uses screen coordinates (only show if not game over, not level complete, and not paused)
-        if (gameMap != null && !gameMap.isGameOver() && !gameMap.isLevelComplete() && !isPaused) {
-            batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-            batch.setProjectionMatrix(batch.getProjectionMatrix());
-            batch.begin();
-
-            // Level-Anzeige oben links mit Schatten
-            String levelText = "Level " + gameMap.getCurrentLevel() + "/" + gameMap.getMaxLevel();
+        if (gameMap != null && !gameOver && !levelComplete && !isPaused) {
+            profiler.begin(FrameProfiler.Phase.HUD);
+            hud.render(gameMap.getCurrentLevel(), gameMap.getMaxLevel(), remainingTime);
+            profiler.end(FrameProfiler.Phase.HUD);
+        }
 
-            // Schatten
-            font.setColor(0.2f, 0.2f, 0.2f, 0.6f);
-            font.draw(batch, levelText, 11, Gdx.graphics.getHeight() - 11);
+        // Overlays (in priority order)
+        profiler.begin(FrameProfiler.Phase.OVERLAY);
+        if (isPaused) {
+            renderPauseOverlay();
+        } else if (gameMap != null) {
+            if (levelComplete && !gameOver) {
+                renderLevelCompleteOverlay();
+            } else if (gameOver) {
+                renderGameOverOverlay();
+            }
+        }
+        profiler.end(FrameProfiler.Phase.OVERLAY);
+        endRead();
 
-            // Level-Text in Gelb für bessere Sichtbarkeit
-            font.setColor(Color.YELLOW);
-            font.draw(batch, levelText, 10, Gdx.graphics.getHeight() - 10);
+        profiler.endFrame();
+        if (profiler.isEnabled()) {
+            profilerOverlay.render(batch, shapeRenderer, font);
+        }
+    }
 
-            font.setColor(Color.WHITE);
-            font.draw(batch, "WASD to move, SPACE to pause", 10, Gdx.graphics.getHeight() - 30);
+    /**
+     * Takes game over, level complete and the timer from the pinned snapshot in threaded mode (the
+     * map itself changes under the simulation's tick lock), otherwise straight from the map.
+     */
+    private void readState() {
+        if (simulation != null) {
+            WorldSnapshot latest = simulation.getLatest();
+            gameOver = latest.isGameOver();
+            levelComplete = latest.isLevelComplete();
+            gameOverReason = latest.getGameOverReason();
+            remainingTime = latest.getRemainingTime();
+        } else if (gameMap != null) {
+            gameOver = gameMap.isGameOver();
+            levelComplete = gameMap.isLevelComplete();
+            gameOverReason = gameMap.getGameOverReason();
+            remainingTime = gameMap.getRemainingTime();
+        }
+    }
 
-            // Timer-Anzeige oben rechts
-            float remainingTime = gameMap.getRemainingTime();
-            int minutes = (int) (remainingTime / 60);
-            int seconds = (int) (remainingTime % 60);
-            String timerText = String.format("%d:%02d", minutes, seconds);
+    private void endRead() {
+        if (simulation != null) {
+            simulation.endRead();
+        }
+    }
 
-            // Timer-Text messen für rechte Ausrichtung
-            glyphLayout.setText(font, timerText);
-            float timerX = Gdx.graphics.getWidth() - glyphLayout.width - 15;
-            float timerY = Gdx.graphics.getHeight() - 15;
+    /** Draws the map and everything on it from the camera's point of view. */
+    private void renderWorld() {
+        updateCamera();
+
+        // ========== RENDER ORDER (LAYERED) ==========
+        // LAYER 1: TMX Background (pretty graphics from Tiled)
+        profiler.begin(FrameProfiler.Phase.TMX);
+        gameMap.renderTmxBackground(camera);
+        profiler.end(FrameProfiler.Phase.TMX);
+
+        // LAYER 2: Ground (ONLY if no TMX map loaded) and tiles, baked per chunk
+        profiler.begin(FrameProfiler.Phase.TILE_CACHE);
+        if (simulation != null) {
+            // Liest TileStorage und Chunk-Grenzen, die der Simulations-Thread im Tick ändert
+            simulation.runLocked(updateTileCache);
+        } else {
+            updateTileCache();
+        }
+        tileCache.render(camera, visibleMinX, visibleMinY, visibleMaxX, visibleMaxY);
+        profiler.end(FrameProfiler.Phase.TILE_CACHE);
 
-            // Leichter Hintergrund für bessere Lesbarkeit
-            font.setColor(0.2f, 0.2f, 0.2f, 0.6f);
-            font.draw(batch, timerText, timerX + 1, timerY - 1);
+        // LAYER 3: Gameplay objects (objects, wildlife, player) - these move, so through the batch
+        profiler.begin(FrameProfiler.Phase.GAMEPLAY);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        renderGameplayLayer();
+        batch.end();
+        profiler.end(FrameProfiler.Phase.GAMEPLAY);
+    }
 
-            // Timer-Text in Weiß
-            font.setColor(Color.WHITE);
-            font.draw(batch, timerText, timerX, timerY);
+    private void updateTileCache() {
+        tileCache.update(!gameMap.hasTmxMap());
+    }
 
-            batch.end();
+    /**
+     * Draws the world from the frame cache, capturing it first if the cache is not up to date.
+     * @return false if there is no frame buffer and the world has to be drawn normally.
+     */
+    private boolean renderCachedWorld() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (worldFrame == null || worldFrame.getWidth() != width || worldFrame.getHeight() != height) {
+            if (worldFrame != null) worldFrame.dispose();
+            worldFrame = null;
+            worldCached = false;
+            // Minimiert ist der Back Buffer 0x0
+            if (!frameCacheSupported || width == 0 || height == 0) return false;
+            try {
+                worldFrame = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            } catch (GdxRuntimeException | IllegalStateException e) {
+                Gdx.app.error("GameScreen", "No frame cache, drawing every frame: " + e.getMessage());
+                frameCacheSupported = false;
+                return false;
+            }
+        }
+        if (!worldCached) {
+            worldFrame.begin();
+            Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            renderWorld();
+            worldFrame.end();
+            worldCached = true;
         }
 
-        // Overlays (in priority order)
-        if (isPaused) {
-            renderPauseOverlay();
-        } else if (gameMap != null) {
-            if (gameMap.isLevelComplete() && !gameMap.isGameOver()) {
-                renderLevelCompleteOverlay();
-            } else if (gameMap.isGameOver()) {
-                renderGameOverOverlay();
-            }
+        profiler.begin(FrameProfiler.Phase.GAMEPLAY);
+        int screenWidth = Gdx.graphics.getWidth();
+        int screenHeight = Gdx.graphics.getHeight();
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, screenWidth, screenHeight);
+        batch.setProjectionMatrix(batch.getProjectionMatrix());
+        batch.disableBlending();
+        batch.begin();
+        // Frame-Buffer-Texturen stehen auf dem Kopf
+        batch.draw(worldFrame.getColorBufferTexture(), 0, 0, screenWidth, screenHeight,
+                0, 0, width, height, false, true);
+        batch.end();
+        batch.enableBlending();
+        profiler.end(FrameProfiler.Phase.GAMEPLAY);
+        return true;
+    }
+
+    /** Drops to {@link ValleyDayGame#IDLE_FPS} while nothing on screen moves. */
+    private void setIdle(boolean idle) {
+        if (this.idle == idle) return;
+        this.idle = idle;
+        Gdx.graphics.setForegroundFPS(idle ? ValleyDayGame.IDLE_FPS : ValleyDayGame.FOREGROUND_FPS);
+    }
+
+    private void toggleProfiler() {
+        profiler.setEnabled(!profiler.isEnabled());
+        // Im Thread-Modus läuft der Tick woanders, dort gibt es nur die Render-Phasen
+        if (simulation == null && gameMap != null) {
+            gameMap.setProfiler(profiler.isEnabled() ? profiler : null);
         }
+        Gdx.app.log("GameScreen", "Profiler " + (profiler.isEnabled() ? "on" : "off"));
     }
 
     private void renderPauseOverlay() {
@@ -322,11 +510,12 @@ private void renderLevelCompleteOverlay() {
 
         // Level info
         font.setColor(Color.WHITE);
-        String levelText = "Level " + gameMap.getCurrentLevel() + " Complete!";
-        glyphLayout.setText(font, levelText);
+        overlayText.setLength(0);
+        overlayText.append("Level ").append(gameMap.getCurrentLevel()).append(" Complete!");
+        glyphLayout.setText(font, overlayText);
         float levelX = (screenWidth - glyphLayout.width) / 2;
         float levelY = screenHeight / 2 + 10;
-        font.draw(batch, levelText, levelX, levelY);
+        font.draw(batch, overlayText, levelX, levelY);
 
         // Continue instruction
         font.setColor(Color.YELLOW);
@@ -359,14 +548,16 @@ private void renderGameOverOverlay() {
 
         // Different messages based on game over reason
         String mainText;
-        String reasonText = "";
-        GameMap.GameOverReason reason = gameMap.getGameOverReason();
+        CharSequence reasonText;
+        GameMap.GameOverReason reason = gameOverReason;
 
         if (reason == GameMap.GameOverReason.GAME_WON) {
             // Game Won - All levels complete
             font.setColor(Color.GREEN);
             mainText = "Congratulations!";
-            reasonText = "You completed all " + gameMap.getMaxLevel() + " levels!";
+            overlayText.setLength(0);
+            overlayText.append("You completed all ").append(gameMap.getMaxLevel()).append(" levels!");
+            reasonText = overlayText;
         } else {
             // Game Over
             font.setColor(Color.RED);
@@ -412,72 +603,44 @@ private void renderGameOverOverlay() {
         batch.end();
     }
 
-    private void renderGroundLayer() {
-        GroundTile[][] groundLayer = gameMap.getGroundLayer();
-        for (int x = 0; x < gameMap.getWidth(); x++) {
-            for (int y = 0; y < gameMap.getHeight(); y++) {
-                GroundTile ground = groundLayer[x][y];
-                if (ground != null && ground.getCurrentAppearance() != null) {
-                    batch.draw(ground.getCurrentAppearance(), x, y, 1, 1);
-                }
-            }
-        }
-    }
-
     private void renderGameplayLayer() {
         try {
-            Tile[][] tiles = gameMap.getTiles();
-
-            // STEP 1: Render tiles (Fence, Debris, Tools, etc.)
-            for (int x = 0; x < gameMap.getWidth(); x++) {
-                for (int y = 0; y < gameMap.getHeight(); y++) {
-                    Tile tile = tiles[x][y];
-                    if (tile != null && tile.getCurrentAppearance() != null) {
-                        TextureRegion region = tile.getCurrentAppearance();
-
-                        // Special rendering for Fence tiles
-                        if (tile instanceof de.tum.cit.aet.valleyday.tiles.Fence) {
-                            boolean isVertical = (x == 0 || x == gameMap.getWidth() - 1);
-                            if (isVertical) {
-                                batch.draw(region,
-                                        (float) x - 0.5f, (float) y,
-                                        1f, 0.5f,
-                                        2f, 1f,
-                                        1f, 1f,
-                                        90f);
-                            } else {
-                                batch.draw(region, x - 0.5f, y, 2f, 1f);
-                            }
-                        } else {
-                            // Normal tiles: render as 1x1
-                            batch.draw(region, x, y, 1, 1);
-                        }
-                    }
-                }
-            }
+            // STEP 1 (tiles) is drawn by the TileCache before this pass
 
-            // STEP 2: Render game objects
-            for (GameObject obj : gameMap.getGameObjects()) {
+            // STEP 2: Render game objects - only those in view, looked up in the map's index
+            visibleObjects.clear();
+            gameMap.findObjectsIn(visibleMinX, visibleMinY, visibleMaxX, visibleMaxY, visibleObjects);
+            for (int i = 0; i < visibleObjects.size(); i++) {
+                GameObject obj = visibleObjects.get(i);
                 if (obj.getCurrentAppearance() != null) {
                     batch.draw(obj.getCurrentAppearance(), obj.getX(), obj.getY(), 1, 1);
                 }
             }
 
-            // STEP 3: Render wildlife
-            for (WildlifeVisitor visitor : gameMap.getWildlifeVisitors()) {
-                if (visitor.getCurrentAppearance() != null) {
-                    batch.draw(visitor.getCurrentAppearance(), visitor.getX(), visitor.getY(), 1, 1);
+            if (simulation != null) {
+                renderSnapshotActors();
+                return;
+            }
+
+            // STEP 3: Render wildlife - spatial query instead of the whole list
+            visibleActors.clear();
+            gameMap.findActorsIn(visibleMinX, visibleMinY, visibleMaxX, visibleMaxY, visibleActors);
+            for (int i = 0; i < visibleActors.size(); i++) {
+                Drawable actor = visibleActors.get(i);
+                if (actor instanceof WildlifeVisitor && actor.getCurrentAppearance() != null) {
+                    batch.draw(actor.getCurrentAppearance(), actor.getX(), actor.getY(), 1, 1);
                 }
             }
 
             // STEP 3.5: Render Chaser Zombie
             ChaserZombie chaser = gameMap.getChaserZombie();
-            if (chaser != null && chaser.isActive() && chaser.getCurrentAppearance() != null) {
+            if (chaser != null && chaser.isActive() && isVisible(chaser.getX(), chaser.getY())
+                    && chaser.getCurrentAppearance() != null) {
                 batch.draw(chaser.getCurrentAppearance(), chaser.getX(), chaser.getY(), 1, 1);
             }
 
             // STEP 4: Render player (on top of everything) - only if visible and not game over
-            if (playerVisible && !gameMap.isGameOver()) {
+            if (playerVisible && !gameOver) {
                 Player player = gameMap.getPlayer();
                 if (player != null && player.getCurrentAppearance() != null) {
                     batch.draw(player.getCurrentAppearance(), player.getX(), player.getY(), 1, 1);
@@ -489,6 +652,46 @@ private void renderGameplayLayer() {
         }
     }
 
+    /**
+     * Steps 3 to 4 of {@link #renderGameplayLayer()} in threaded mode: wildlife, chaser and player
+     * at positions interpolated between the two newest simulation snapshots.
+     */
+    private void renderSnapshotActors() {
+        WorldSnapshot previous = simulation.getPrevious();
+        WorldSnapshot latest = simulation.getLatest();
+
+        // Der Index gehört dem Simulations-Thread, hier reicht ein Sichtbarkeitstest über den Snapshot
+        for (int i = 0; i < latest.getWildlifeCount(); i++) {
+            TextureRegion region = latest.getWildlifeAppearance(i);
+            if (region == null) continue;
+            float x = latest.getWildlifeX(i);
+            float y = latest.getWildlifeY(i);
+            if (!isVisible(x, y)) continue;
+            int before = latest.indexIn(previous, i);
+            if (before >= 0) {
+                x = simulation.interpolate(previous.getWildlifeX(before), x);
+                y = simulation.interpolate(previous.getWildlifeY(before), y);
+            }
+            batch.draw(region, x, y, 1, 1);
+        }
+
+        if (latest.isChaserActive() && latest.getChaserAppearance() != null) {
+            float x = latest.getChaserX();
+            float y = latest.getChaserY();
+            if (previous.isChaserActive()) {
+                x = simulation.interpolate(previous.getChaserX(), x);
+                y = simulation.interpolate(previous.getChaserY(), y);
+            }
+            batch.draw(latest.getChaserAppearance(), x, y, 1, 1);
+        }
+
+        if (playerVisible && !gameOver && latest.getPlayerAppearance() != null) {
+            batch.draw(latest.getPlayerAppearance(),
+                    simulation.interpolate(previous.getPlayerX(), latest.getPlayerX()),
+                    simulation.interpolate(previous.getPlayerY(), latest.getPlayerY()), 1, 1);
+        }
+    }
+
     private void updateCamera() {
         Player player = gameMap.getPlayer();
         if (player == null) {
@@ -498,6 +701,12 @@ private void updateCamera() {
         // Kamera folgt dem Spieler direkt - Spieler bleibt in der Mitte
         float cameraX = player.getX();
         float cameraY = player.getY();
+        if (simulation != null) {
+            WorldSnapshot previous = simulation.getPrevious();
+            WorldSnapshot latest = simulation.getLatest();
+            cameraX = simulation.interpolate(previous.getPlayerX(), latest.getPlayerX());
+            cameraY = simulation.interpolate(previous.getPlayerY(), latest.getPlayerY());
+        }
 
         // Kamera innerhalb der Map-Grenzen halten (keine schwarzen Bereiche)
         float viewportWidth = camera.viewportWidth;
@@ -510,11 +719,25 @@ private void updateCamera() {
         float minCameraY = viewportHeight / 2;
         float maxCameraY = mapHeight - viewportHeight / 2;
 
-        cameraX = Math.max(minCameraX, Math.min(maxCameraX, cameraX));
-        cameraY = Math.max(minCameraY, Math.min(maxCameraY, cameraY));
+        // Kleinere Maps als der Viewport werden zentriert
+        cameraX = minCameraX > maxCameraX ? mapWidth / 2 : Math.max(minCameraX, Math.min(maxCameraX, cameraX));
+        cameraY = minCameraY > maxCameraY ? mapHeight / 2 : Math.max(minCameraY, Math.min(maxCameraY, cameraY));
 
         camera.position.set(cameraX, cameraY, 0);
         camera.update();
+
+        // Sichtbarer Bereich, um eine Sprite-Größe erweitert: Sprites hängen an ihrer linken unteren Ecke
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        visibleMinX = cameraX - halfWidth - 1;
+        visibleMinY = cameraY - halfHeight - 1;
+        visibleMaxX = cameraX + halfWidth;
+        visibleMaxY = cameraY + halfHeight;
+    }
+
+    /** Whether a 1x1 sprite at (x, y) may be on screen. */
+    private boolean isVisible(float x, float y) {
+        return x >= visibleMinX && x <= visibleMaxX && y >= visibleMinY && y <= visibleMaxY;
     }
 
     @Override
@@ -522,21 +745,36 @@ public void resize(int width, int height) {
         float aspectRatio = (float) width / (float) height;
         camera.setToOrtho(false, 20 * aspectRatio, 20);  // Zoomed in view
         camera.update();
+        hud.resize(width, height);
+        worldCached = false;
     }
 
     @Override
-    public void pause() {}
+    public void pause() {
+        // Fenster minimiert oder nicht mehr im Fokus: Pausemenü, damit die Welt stillsteht
+        if (gameMap != null && !gameOver && !levelComplete) {
+            isPaused = true;
+        }
+    }
 
     @Override
     public void resume() {}
 
     @Override
-    public void hide() {}
+    public void hide() {
+        // Zurück ins Menü: der Simulations-Thread darf nicht weiterlaufen
+        if (simulation != null) simulation.stop();
+        if (gameMap != null) gameMap.stopRecording();
+        setIdle(false);
+    }
 
     @Override
     public void dispose() {
+        if (simulation != null) simulation.stop();
         if (font != null) font.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
+        if (tileCache != null) tileCache.dispose();
+        if (worldFrame != null) worldFrame.dispose();
         if (gameMap != null) gameMap.dispose();
     }
 }
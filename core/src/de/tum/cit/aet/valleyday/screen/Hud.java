@@ -1,44 +1,111 @@
 package de.tum.cit.aet.valleyday.screen;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
  * A Heads-Up Display (HUD) that displays information on the screen.
  * It uses a separate camera so that it is always fixed on the screen.
+ * <p>
+ * Every label (with its shadow) is laid out once into a {@link BitmapFontCache} and only laid out
+ * again when the value it shows changes, e.g. when the timer's seconds tick over. All other frames
+ * just draw the cached vertices. The texts are written into reused StringBuilders, so the HUD
+ * creates no garbage per frame.
  */
 public class Hud {
-    
+    private static final Color SHADOW = new Color(0.2f, 0.2f, 0.2f, 0.6f);
+    private static final String HINT = "WASD to move, SPACE to pause";
+
     /** The SpriteBatch used to draw the HUD. This is the same as the one used in the GameScreen. */
     private final SpriteBatch spriteBatch;
     /** The font used to draw text on the screen. */
     private final BitmapFont font;
     /** The camera used to render the HUD. */
     private final OrthographicCamera camera;
-    
+
+    private final BitmapFontCache levelCache;
+    private final BitmapFontCache hintCache;
+    private final BitmapFontCache timerCache;
+    private final StringBuilder levelText = new StringBuilder(16);
+    private final StringBuilder timerText = new StringBuilder(8);
+    // Only to measure the timer for right alignment
+    private final GlyphLayout timerLayout = new GlyphLayout();
+
+    // What the caches currently show; -1 = not laid out yet
+    private int shownLevel = -1;
+    private int shownMaxLevel = -1;
+    private int shownSeconds = -1;
+    private float width;
+    private float height;
+
     public Hud(SpriteBatch spriteBatch, BitmapFont font) {
         this.spriteBatch = spriteBatch;
         this.font = font;
         this.camera = new OrthographicCamera();
+        this.levelCache = new BitmapFontCache(font, font.usesIntegerPositions());
+        this.hintCache = new BitmapFontCache(font, font.usesIntegerPositions());
+        this.timerCache = new BitmapFontCache(font, font.usesIntegerPositions());
     }
-    
+
     /**
      * Renders the HUD on the screen.
      * This uses a different OrthographicCamera so that the HUD is always fixed on the screen.
+     * @param remainingTime Time left in the level in seconds, shown as m:ss.
      */
-    public void render() {
+    public void render(int level, int maxLevel, float remainingTime) {
+        if (level != shownLevel || maxLevel != shownMaxLevel) {
+            layoutLevel(level, maxLevel);
+        }
+        int seconds = (int) remainingTime;
+        if (seconds != shownSeconds) {
+            layoutTimer(seconds);
+        }
+
         // Render from the camera's perspective
         spriteBatch.setProjectionMatrix(camera.combined);
-        // Start drawing
         spriteBatch.begin();
-        // Draw the HUD elements
-        font.draw(spriteBatch, "Press Esc to Pause!", 10, Gdx.graphics.getHeight() - 10);
-        // Finish drawing
+        levelCache.draw(spriteBatch);
+        hintCache.draw(spriteBatch);
+        timerCache.draw(spriteBatch);
         spriteBatch.end();
     }
-    
+
+    private void layoutLevel(int level, int maxLevel) {
+        shownLevel = level;
+        shownMaxLevel = maxLevel;
+        levelText.setLength(0);
+        levelText.append("Level ").append(level).append('/').append(maxLevel);
+
+        // Level oben links mit Schatten, in Gelb für bessere Sichtbarkeit
+        levelCache.clear();
+        levelCache.setColor(SHADOW);
+        levelCache.addText(levelText, 11, height - 11);
+        levelCache.setColor(Color.YELLOW);
+        levelCache.addText(levelText, 10, height - 10);
+    }
+
+    private void layoutTimer(int seconds) {
+        shownSeconds = seconds;
+        timerText.setLength(0);
+        timerText.append(seconds / 60).append(':');
+        if (seconds % 60 < 10) timerText.append('0');
+        timerText.append(seconds % 60);
+
+        // Oben rechts, rechtsbündig
+        timerLayout.setText(font, timerText);
+        float timerX = width - timerLayout.width - 15;
+        float timerY = height - 15;
+        timerCache.clear();
+        timerCache.setColor(SHADOW);
+        timerCache.addText(timerText, timerX + 1, timerY - 1);
+        timerCache.setColor(Color.WHITE);
+        timerCache.addText(timerText, timerX, timerY);
+    }
+
     /**
      * Resizes the HUD when the screen size changes.
      * This is called when the window is resized.
@@ -47,6 +114,15 @@ public void render() {
      */
     public void resize(int width, int height) {
         camera.setToOrtho(false, width, height);
+        this.width = width;
+        this.height = height;
+
+        // Alles hängt an den Bildschirmrändern, also neu anordnen
+        hintCache.clear();
+        hintCache.setColor(Color.WHITE);
+        hintCache.addText(HINT, 10, height - 30);
+        shownLevel = -1;
+        shownSeconds = -1;
     }
-    
+
 }
@@ -0,0 +1,239 @@
+package de.tum.cit.aet.valleyday.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.aet.valleyday.map.ChunkManager;
+import de.tum.cit.aet.valleyday.map.GameMap;
+import de.tum.cit.aet.valleyday.texture.Textures;
+import de.tum.cit.aet.valleyday.tiles.CellListener;
+import de.tum.cit.aet.valleyday.tiles.Fence;
+import de.tum.cit.aet.valleyday.tiles.TileStorage;
+
+import java.util.Arrays;
+
+/**
+ * The tiles in the render area, baked once into a {@link SpriteCache} instead of being sent to the
+ * sprite batch every frame.
+ * <p>
+ * Every chunk of the render area is one cache (plus one for the plain ground on maps without TMX
+ * background). When a cell changes (crop grows, debris cleared, tool picked up) the {@link CellListener}
+ * of the tile storage marks its chunk dirty, and only that chunk is rebuilt before the next draw. Moving
+ * the render area to other chunks rebuilds all of them. Drawing is one call per chunk and texture, no
+ * matter how big the map is.
+ * <p>
+ * {@link #update(boolean)} reads the tile storage and the chunk bounds, so in threaded mode it must run
+ * under the simulation's tick lock ({@code SimulationThread.runLocked}); the listener is called from the
+ * tick, i.e. under the same lock. {@link #render} only draws what update built and needs no lock.
+ */
+public class TileCache implements Disposable, CellListener {
+    private static final int CHUNK_CELLS = ChunkManager.CHUNK_SIZE * ChunkManager.CHUNK_SIZE;
+
+    private final GameMap map;
+    private SpriteCache cache;
+    private int capacity = 0;
+
+    // What the cache was built from; a change of any of these rebuilds everything
+    private TileStorage tiles;
+    private ChunkManager chunks;
+    private boolean withGround;
+    private int minChunkX;
+    private int minChunkY;
+    private int maxChunkX = -1;
+    private int maxChunkY = -1;
+
+    // Per chunk index of the ChunkManager
+    private int[] groundIds = new int[0];
+    private int[] cacheIds = new int[0];
+    private int[] spriteCounts = new int[0];
+    private boolean[] dirty = new boolean[0];
+
+    public TileCache(GameMap map) {
+        this.map = map;
+    }
+
+    @Override
+    public void onCellChanged(int x, int y) {
+        // Im Thread-Modus vom Simulations-Thread, aber wie update() unter dem Tick-Lock
+        if (chunks == null) return;
+        int chunk = chunks.chunkOf(x, y);
+        if (chunk < dirty.length) dirty[chunk] = true;
+    }
+
+    /**
+     * Rebuilds what changed since the last call, or everything if the render area moved to other chunks.
+     * Must not run concurrently with a tick, see the class comment.
+     * @param withGround Whether to draw the plain ground under every cell (maps without TMX background).
+     */
+    public void update(boolean withGround) {
+        ChunkManager currentChunks = map.getChunkManager();
+        TileStorage currentTiles = map.getTileStorage();
+        int fromX = currentChunks.getRenderMinX() / ChunkManager.CHUNK_SIZE;
+        int fromY = currentChunks.getRenderMinY() / ChunkManager.CHUNK_SIZE;
+        int toX = (currentChunks.getRenderMaxX() - 1) / ChunkManager.CHUNK_SIZE;
+        int toY = (currentChunks.getRenderMaxY() - 1) / ChunkManager.CHUNK_SIZE;
+
+        if (currentTiles != tiles || currentChunks != chunks || withGround != this.withGround
+                || fromX != minChunkX || fromY != minChunkY || toX != maxChunkX || toY != maxChunkY) {
+            if (currentTiles != tiles) {
+                if (tiles != null) tiles.setCellListener(null);
+                currentTiles.setCellListener(this);
+            }
+            tiles = currentTiles;
+            chunks = currentChunks;
+            this.withGround = withGround;
+            minChunkX = fromX;
+            minChunkY = fromY;
+            maxChunkX = toX;
+            maxChunkY = toY;
+            rebuildAll();
+        } else if (!rebuildDirty()) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Draws the tiles of the render area that overlap the visible rectangle, as built by the last
+     * {@link #update(boolean)}. The whole render area stays baked, so moving the camera inside it costs nothing.
+     */
+    public void render(OrthographicCamera camera,
+                       float visibleMinX, float visibleMinY, float visibleMaxX, float visibleMaxY) {
+        if (cache == null) return;
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        // Nur Chunks im Bild; Zäune stehen einen halben Tile über, daher eine Zelle Rand
+        int drawFromX = Math.max(minChunkX, (int) Math.floor((visibleMinX - 1) / ChunkManager.CHUNK_SIZE));
+        int drawFromY = Math.max(minChunkY, (int) Math.floor((visibleMinY - 1) / ChunkManager.CHUNK_SIZE));
+        int drawToX = Math.min(maxChunkX, (int) Math.floor((visibleMaxX + 1) / ChunkManager.CHUNK_SIZE));
+        int drawToY = Math.min(maxChunkY, (int) Math.floor((visibleMaxY + 1) / ChunkManager.CHUNK_SIZE));
+
+        cache.begin();
+        // Erst der ganze Boden, sonst verdeckt er die überstehenden Zäune des Nachbar-Chunks
+        if (withGround) draw(groundIds, drawFromX, drawFromY, drawToX, drawToY);
+        draw(cacheIds, drawFromX, drawFromY, drawToX, drawToY);
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private void draw(int[] ids, int fromX, int fromY, int toX, int toY) {
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                int id = ids[chunk(cx, cy)];
+                if (id >= 0) cache.draw(id);
+            }
+        }
+    }
+
+    private int chunk(int chunkX, int chunkY) {
+        return chunks.chunkOf(chunkX * ChunkManager.CHUNK_SIZE, chunkY * ChunkManager.CHUNK_SIZE);
+    }
+
+    private void rebuildAll() {
+        int chunkCount = chunks.getChunkCount();
+        if (cacheIds.length != chunkCount) {
+            groundIds = new int[chunkCount];
+            cacheIds = new int[chunkCount];
+            spriteCounts = new int[chunkCount];
+            dirty = new boolean[chunkCount];
+        }
+        Arrays.fill(groundIds, -1);
+        Arrays.fill(cacheIds, -1);
+        Arrays.fill(dirty, false);
+
+        int needed = (maxChunkX - minChunkX + 1) * (maxChunkY - minChunkY + 1) * CHUNK_CELLS * (withGround ? 2 : 1);
+        if (cache == null || needed > capacity) {
+            if (cache != null) cache.dispose();
+            // Ohne Indizes: mit Boden passen sonst keine 25 Chunks hinein (max. 8191 Sprites mit Indizes)
+            cache = new SpriteCache(needed, false);
+            capacity = needed;
+        } else {
+            cache.clear();
+        }
+
+        for (int cy = minChunkY; cy <= maxChunkY; cy++) {
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                int chunk = chunk(cx, cy);
+                if (withGround && Textures.GROUND != null) {
+                    cache.beginCache();
+                    addGround(chunk);
+                    groundIds[chunk] = cache.endCache();
+                }
+                cache.beginCache();
+                spriteCounts[chunk] = addChunk(chunk);
+                cacheIds[chunk] = cache.endCache();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the dirty chunks in place.
+     * @return false if a chunk now has more sprites than its cache holds and everything must be rebuilt.
+     */
+    private boolean rebuildDirty() {
+        for (int cy = minChunkY; cy <= maxChunkY; cy++) {
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                int chunk = chunk(cx, cy);
+                if (!dirty[chunk]) continue;
+                dirty[chunk] = false;
+                if (countSprites(chunk) > spriteCounts[chunk]) return false;
+                cache.beginCache(cacheIds[chunk]);
+                addChunk(chunk);
+                cache.endCache();
+            }
+        }
+        return true;
+    }
+
+    private int countSprites(int chunk) {
+        int count = 0;
+        for (int x = chunks.chunkStartX(chunk); x < chunks.chunkEndX(chunk); x++) {
+            for (int y = chunks.chunkStartY(chunk); y < chunks.chunkEndY(chunk); y++) {
+                if (tiles.getAppearance(x, y) != null) count++;
+            }
+        }
+        return count;
+    }
+
+    private void addGround(int chunk) {
+        // Der Boden sieht überall gleich aus und ändert sich nie
+        for (int x = chunks.chunkStartX(chunk); x < chunks.chunkEndX(chunk); x++) {
+            for (int y = chunks.chunkStartY(chunk); y < chunks.chunkEndY(chunk); y++) {
+                cache.add(Textures.GROUND, x, y, 1, 1);
+            }
+        }
+    }
+
+    /** Adds the tiles of one chunk to the cache being built, in the same layout the batch drew them. */
+    private int addChunk(int chunk) {
+        int count = 0;
+        for (int x = chunks.chunkStartX(chunk); x < chunks.chunkEndX(chunk); x++) {
+            for (int y = chunks.chunkStartY(chunk); y < chunks.chunkEndY(chunk); y++) {
+                TextureRegion region = tiles.getAppearance(x, y);
+                if (region == null) continue;
+                count++;
+                // Zäune sind 2 breit, am linken und rechten Rand gedreht
+                if (tiles.getObject(x, y) instanceof Fence) {
+                    boolean isVertical = (x == 0 || x == tiles.getWidth() - 1);
+                    if (isVertical) {
+                        cache.add(region, x - 0.5f, y, 1f, 0.5f, 2f, 1f, 1f, 1f, 90f);
+                    } else {
+                        cache.add(region, x - 0.5f, y, 2f, 1f);
+                    }
+                } else {
+                    cache.add(region, x, y, 1, 1);
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void dispose() {
+        if (tiles != null) tiles.setCellListener(null);
+        if (cache != null) cache.dispose();
+    }
+}
@@ -0,0 +1,81 @@
+package de.tum.cit.aet.valleyday.texture;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+
+/**
+ * The atlas the {@code packTextures} Gradle task builds from all sprite sheets and the tileset images
+ * of the TMX maps. Every image is packed whole and keeps its file name (without extension) as region
+ * name, so grid coordinates inside a sheet stay the same.
+ * <p>
+ * With everything on one page the sprite batch, the tile cache and the TMX renderer bind the same
+ * texture and a frame needs only a few draw calls. Without the atlas (task not run) the sheets load
+ * as separate textures like before.
+ */
+public final class SpriteAtlas {
+    public static final String PATH = "atlas/sprites.atlas";
+
+    private static TextureAtlas atlas;
+    private static boolean loaded = false;
+
+    private SpriteAtlas() {}
+
+    /**
+     * @return The region of the packed image, or null if there is no atlas or the image is not in it.
+     */
+    public static TextureRegion find(String name) {
+        if (!loaded) {
+            loaded = true;
+            FileHandle file = Gdx.files.internal(PATH);
+            if (file.exists()) {
+                atlas = new TextureAtlas(file);
+                Gdx.app.log("SpriteAtlas", "Loaded " + PATH);
+            } else {
+                Gdx.app.log("SpriteAtlas", PATH + " not found, loading sprite sheets separately (run gradle packTextures)");
+            }
+        }
+        return atlas != null ? atlas.findRegion(name) : null;
+    }
+
+    /**
+     * Points the tiles of a loaded TMX map at the atlas page instead of the tileset images.
+     * Tilesets whose image is not packed keep their own texture.
+     */
+    public static void useFor(TiledMap map) {
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            String image = tileSet.getProperties().get("imagesource", String.class);
+            if (image == null) continue;  // Tileset aus Einzelbildern
+            TextureRegion packed = find(baseName(image));
+            if (packed == null) continue;
+
+            for (TiledMapTile tile : tileSet) {
+                // Animierte Tiles zeigen nur die statischen Tiles desselben Tilesets
+                if (tile instanceof AnimatedTiledMapTile) continue;
+                TextureRegion region = tile.getTextureRegion();
+                tile.setTextureRegion(new TextureRegion(packed,
+                        region.getRegionX(), region.getRegionY(),
+                        region.getRegionWidth(), region.getRegionHeight()));
+            }
+        }
+    }
+
+    /** "../texture/basics.png" -> "basics" */
+    private static String baseName(String path) {
+        int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        int dot = path.lastIndexOf('.');
+        return path.substring(slash + 1, dot > slash ? dot : path.length());
+    }
+
+    public static void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+    }
+}
@@ -3,10 +3,18 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Enumerates all spritesheets used in the game and provides helper methods
  * for grabbing texture regions from them.
+ * <p>
+ * Every grid cell has one TextureRegion, created on first use and returned for every later lookup, so
+ * callers share it and must not modify it. A cell can also be addressed by an integer handle (see
+ * {@link #handle(int, int)}) that sorts by sheet first, or by a name given with {@link #name(String, int, int)}.
  */
 public enum SpriteSheet {
 
@@ -38,42 +46,116 @@ public enum SpriteSheet {
 
     SNAIL("snail.png", 48, 48);
 
-    private final Texture spritesheet;
+    private static final SpriteSheet[] SHEETS = values();
+    private static final Map<String, Integer> NAMED = new HashMap<>();
+
+    // The whole sheet: a region of the atlas page, or the separately loaded texture without atlas
+    private final TextureRegion spritesheet;
+    private final Texture ownTexture;
     private final int width;
     private final int height;
+    // Cells row by row; the last row/column may be cut off by the sheet's edge
+    private final int columns;
+    private final TextureRegion[] cells;
+    // Regions spanning several rows, keyed by cell index and row count
+    private final IntMap<TextureRegion> tallRegions = new IntMap<>();
 
     SpriteSheet(String filename, int width, int height) {
-        this.spritesheet = new Texture(Gdx.files.internal("texture/" + filename));
+        TextureRegion packed = SpriteAtlas.find(filename.substring(0, filename.lastIndexOf('.')));
+        if (packed != null) {
+            this.spritesheet = packed;
+            this.ownTexture = null;
+        } else {
+            this.ownTexture = new Texture(Gdx.files.internal("texture/" + filename));
+            this.spritesheet = new TextureRegion(ownTexture);
+        }
         this.width = width;
         this.height = height;
+        this.columns = (spritesheet.getRegionWidth() + width - 1) / width;
+        int rows = (spritesheet.getRegionHeight() + height - 1) / height;
+        this.cells = new TextureRegion[columns * rows];
     }
 
     /**
      * Returns the TextureRegion at the specified row and column (1-based coordinates).
      */
     public TextureRegion at(int row, int column) {
-        return new TextureRegion(
-                spritesheet,
-                (column - 1) * this.width,
-                (row - 1) * this.height,
-                this.width,
-                this.height
-        );
+        int index = index(row, column);
+        TextureRegion cell = cells[index];
+        if (cell == null) {
+            cell = region((column - 1) * this.width, (row - 1) * this.height, this.width, this.height);
+            cells[index] = cell;
+        }
+        return cell;
     }
 
     public TextureRegion atVertical(int startRow, int column, int numRows) {
-        return new TextureRegion(
-            spritesheet,
-            (column - 1) * this.width,
-            (startRow - 1) * this.height,
-            this.width,
-            this.height * numRows
-        );
+        int key = index(startRow, column) * 64 + numRows;
+        TextureRegion region = tallRegions.get(key);
+        if (region == null) {
+            region = region((column - 1) * this.width, (startRow - 1) * this.height, this.width, this.height * numRows);
+            tallRegions.put(key, region);
+        }
+        return region;
+    }
+
+    /** The cells {@code column .. column + count - 1} of a row, e.g. the frames of an animation. */
+    public TextureRegion[] row(int row, int column, int count) {
+        TextureRegion[] frames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = at(row, column + i);
+        }
+        return frames;
     }
 
+    private int index(int row, int column) {
+        int index = (row - 1) * columns + (column - 1);
+        if (row < 1 || column < 1 || column > columns || index >= cells.length) {
+            throw new IllegalArgumentException(name() + " has no cell at row " + row + ", column " + column);
+        }
+        return index;
+    }
+
+    private TextureRegion region(int x, int y, int regionWidth, int regionHeight) {
+        // Im Atlas liegt neben dem Sheet schon das nächste Bild, also nicht über den Rand hinaus lesen
+        regionWidth = Math.min(regionWidth, spritesheet.getRegionWidth() - x);
+        regionHeight = Math.min(regionHeight, spritesheet.getRegionHeight() - y);
+        return new TextureRegion(spritesheet, x, y, regionWidth, regionHeight);
+    }
 
+    /**
+     * A handle for the cell that stays the same for the whole run. Handles of one sheet are
+     * contiguous, so sorting by handle groups draws by texture.
+     */
+    public int handle(int row, int column) {
+        return ordinal() << 16 | index(row, column);
+    }
 
+    /** Gives the cell a name for {@link #handle(String)}. */
+    public int name(String name, int row, int column) {
+        int handle = handle(row, column);
+        NAMED.put(name, handle);
+        return handle;
+    }
 
+    /**
+     * @return The handle of a named cell, or -1 if no cell has that name.
+     */
+    public static int handle(String name) {
+        Integer handle = NAMED.get(name);
+        return handle != null ? handle : -1;
+    }
 
+    public static TextureRegion region(int handle) {
+        SpriteSheet sheet = SHEETS[handle >>> 16];
+        int index = handle & 0xFFFF;
+        return sheet.at(index / sheet.columns + 1, index % sheet.columns + 1);
+    }
 
+    /** Disposes the sheets that were loaded without atlas. */
+    public static void disposeAll() {
+        for (SpriteSheet sheet : SHEETS) {
+            if (sheet.ownTexture != null) sheet.ownTexture.dispose();
+        }
+    }
 }
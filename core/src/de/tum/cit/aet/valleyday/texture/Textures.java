@@ -1,10 +1,10 @@
 package de.tum.cit.aet.valleyday.texture;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
+import java.util.Random;
+
 public class Textures {
     public static TextureRegion FENCE;
     public static TextureRegion DEBRIS;
@@ -31,74 +31,56 @@ public class Textures {
 
     public static TextureRegion GROUND;
 
-    private static Texture placeholderTexture;
-
+    // Headless (ohne initialize) bleiben die Einträge null, die Zufallsfolge ist trotzdem dieselbe
+    private static final TextureRegion[] RANDOM_OBJECTS = new TextureRegion[5];
 
 
     public static void initialize() {
         Gdx.app.log("Textures", "Initializing textures...");
 
-        // White placeholder for tiles
-        Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);  // White
-        pixmap.fill();
-        placeholderTexture = new Texture(pixmap);
-        pixmap.dispose();
-
-        TextureRegion placeholder = new TextureRegion(placeholderTexture);
-
-        // Create RED player texture
-        Pixmap playerPixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        playerPixmap.setColor(1, 0, 0, 1);  // RED
-        playerPixmap.fill();
-        Texture playerTexture = new Texture(playerPixmap);
-        playerPixmap.dispose();
-
-        // Create GREEN wildlife texture
-        Pixmap wildlifePixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        wildlifePixmap.setColor(0, 1, 0, 1);  // GREEN
-        wildlifePixmap.fill();
-        Texture wildlifeTexture = new Texture(wildlifePixmap);
-        wildlifePixmap.dispose();
-
-        TextureRegion playerRegion = new TextureRegion(playerTexture);
-        TextureRegion wildlifeRegion = new TextureRegion(wildlifeTexture);
-
         // Assign textures
-        FENCE = SpriteSheet.FENCE.at(1,1);
-        DEBRIS = SpriteSheet.BASIC_TILES_EXTENDED.at(8,3);
-        SOIL_EMPTY = SpriteSheet.CROPS.at(5, 1);
-        ENTRANCE = SpriteSheet.BASIC_TILES_EXTENDED.at(7, 1);
-        EXIT = SpriteSheet.BASIC_TILES_EXTENDED.at(7, 3);
-        CROP_SEED = SpriteSheet.CROPS.at(1, 5);
-        CROP_SPROUT = SpriteSheet.CROPS.at(2, 5);;
-        CROP_MATURE = SpriteSheet.CROPS.at(4, 5);;
-        CROP_ROTTEN = SpriteSheet.CROPS.at(10, 18);;
+        FENCE = named("fence", SpriteSheet.FENCE, 1, 1);
+        DEBRIS = named("debris", SpriteSheet.BASIC_TILES_EXTENDED, 8, 3);
+        SOIL_EMPTY = named("soil", SpriteSheet.CROPS, 5, 1);
+        ENTRANCE = named("entrance", SpriteSheet.BASIC_TILES_EXTENDED, 7, 1);
+        EXIT = named("exit", SpriteSheet.BASIC_TILES_EXTENDED, 7, 3);
+        CROP_SEED = named("crop-seed", SpriteSheet.CROPS, 1, 5);
+        CROP_SPROUT = named("crop-sprout", SpriteSheet.CROPS, 2, 5);
+        CROP_MATURE = named("crop-mature", SpriteSheet.CROPS, 4, 5);
+        CROP_ROTTEN = named("crop-rotten", SpriteSheet.CROPS, 10, 18);
         SHOVEL = SpriteSheet.BASIC_TILES.atVertical(2, 7, 3);
-        FERTILIZER = SpriteSheet.OBJECTS.at(1, 14);
-        WATERING_CAN = SpriteSheet.HARVEST.at(1,7);
+        FERTILIZER = named("fertilizer", SpriteSheet.OBJECTS, 1, 14);
+        WATERING_CAN = named("watering-can", SpriteSheet.HARVEST, 1, 7);
 
-        SNAIL = SpriteSheet.SNAIL.at(1,3);
-        RAT = SpriteSheet.CREATURES.at(1, 1);   // Zombie oben links
-        CROW = SpriteSheet.CREATURES.at(1, 5);  // Grünes Wesen Reihe 1, Spalte 5 
+        SNAIL = named("snail", SpriteSheet.SNAIL, 1, 3);
+        RAT = named("rat", SpriteSheet.CREATURES, 1, 1);   // Zombie oben links
+        CROW = named("crow", SpriteSheet.CREATURES, 1, 5);  // Grünes Wesen Reihe 1, Spalte 5 
 
-        PLAYER = playerRegion;  // RED player!
-        CHEST = SpriteSheet.OBJECTS.at(1, 1);
+        PLAYER = named("player", SpriteSheet.CHARACTER, 1, 1);
+        CHEST = named("chest", SpriteSheet.OBJECTS, 1, 1);
         Gdx.app.log("Textures", "Textures initialized successfully!");
 
 
-        GROUND = SpriteSheet.BASIC_TILES_EXTENDED.at(2, 5);  
+        GROUND = named("ground", SpriteSheet.BASIC_TILES_EXTENDED, 2, 5);
+        RANDOM_OBJECTS[0] = SNAIL;
+        RANDOM_OBJECTS[1] = DEBRIS;
+        RANDOM_OBJECTS[2] = SHOVEL;
+        RANDOM_OBJECTS[3] = CHEST;
+        RANDOM_OBJECTS[4] = FLOWERS;
     }
 
 
     public static void dispose() {
-        if (placeholderTexture != null) {
-            placeholderTexture.dispose();
-        }
+        SpriteSheet.disposeAll();
+        SpriteAtlas.dispose();
+    }
+
+    public static TextureRegion getRandomObject(Random random) {
+        return RANDOM_OBJECTS[random.nextInt(RANDOM_OBJECTS.length)];
     }
 
-    public static TextureRegion getRandomObject() {
-        TextureRegion[] objects = {SNAIL, DEBRIS, SHOVEL, CHEST, FLOWERS};
-        return objects[(int) (Math.random() * objects.length)];
+    /** The shared region of a sheet cell, also reachable as {@code SpriteSheet.handle(name)}. */
+    private static TextureRegion named(String name, SpriteSheet sheet, int row, int column) {
+        return SpriteSheet.region(sheet.name(name, row, column));
     }
 }
\ No newline at end of file
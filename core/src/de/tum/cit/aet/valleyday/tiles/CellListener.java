@@ -0,0 +1,10 @@
+package de.tum.cit.aet.valleyday.tiles;
+
+/**
+ * Gets notified when what a cell of a {@link TileStorage} looks like may have changed: a tile was
+ * placed or removed, or a crop was planted, grew or disappeared. Renderers use this to rebuild
+ * cached geometry for that cell only.
+ */
+public interface CellListener {
+    void onCellChanged(int x, int y);
+}
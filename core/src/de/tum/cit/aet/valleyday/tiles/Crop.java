@@ -3,66 +3,90 @@
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import de.tum.cit.aet.valleyday.texture.Textures;
 
+/**
+ * A view of the crop growing on a soil cell of a {@link TileStorage}.
+ * The growth stage itself lives in the storage, the stage rules are the static methods below.
+ */
 public class Crop extends Tile {
     public enum GrowthStage {
         SEED, SPROUT, MATURE, ROTTEN
     }
 
-    private GrowthStage stage = GrowthStage.SEED;
-    private float growthTimer = 0;
-    private static final float TIME_PER_STAGE = 20.0f; // 20 seconds per stage
+    public static final float TIME_PER_STAGE = 20.0f; // 20 seconds per stage
 
-    public Crop(int x, int y) {
+    private final TileStorage storage;
+
+    public Crop(TileStorage storage, int x, int y) {
         super(x, y);
+        this.storage = storage;
     }
 
-    @Override
-    public void tick(float frameTime) {
-        if (stage == GrowthStage.ROTTEN) {
-            return;
-        }
-
-        growthTimer += frameTime;
-
-        if (growthTimer >= TIME_PER_STAGE) {
-            growthTimer = 0;
-
-            switch (stage) {
-                case SEED -> stage = GrowthStage.SPROUT;
-                case SPROUT -> stage = GrowthStage.MATURE;
-                case MATURE -> stage = GrowthStage.ROTTEN;
-            }
-        }
+    /**
+     * Moves the crop to its next stage. Called by the map's scheduler every {@link #TIME_PER_STAGE} seconds.
+     */
+    public void grow() {
+        storage.growCrop(x, y);
     }
 
     @Override
     public TextureRegion getCurrentAppearance() {
-        return switch (stage) {
-            case SEED -> Textures.CROP_SEED;
-            case SPROUT -> Textures.CROP_SPROUT;
-            case MATURE -> Textures.CROP_MATURE;
-            case ROTTEN -> Textures.CROP_ROTTEN;
-        };
+        GrowthStage stage = getStage();
+        return stage != null ? appearance(stage) : null;
     }
 
     public boolean isMature() {
-        return stage == GrowthStage.MATURE;
+        return getStage() == GrowthStage.MATURE;
+    }
+
+    /** The current stage, or null once the crop is gone. */
+    public GrowthStage getStage() {
+        return storage.getCropStage(x, y);
     }
 
     public boolean isRotten() {
-        return stage == GrowthStage.ROTTEN;
+        return getStage() == GrowthStage.ROTTEN;
     }
 
     public void advanceGrowth() {
-        if (stage != GrowthStage.ROTTEN && stage != GrowthStage.MATURE) {
-            stage = GrowthStage.values()[stage.ordinal() + 1];
-        }
+        storage.advanceGrowth(x, y);
     }
 
     public void restore() {
-        if (stage == GrowthStage.ROTTEN) {
-            stage = GrowthStage.MATURE;
+        storage.restoreCrop(x, y);
+    }
+
+    // Stage rules, null stands for "no crop"
+
+    // values() copies the array on every call
+    private static final GrowthStage[] STAGES = GrowthStage.values();
+
+    static GrowthStage grow(GrowthStage stage) {
+        if (stage == null) return null;
+        return switch (stage) {
+            case SEED -> GrowthStage.SPROUT;
+            case SPROUT -> GrowthStage.MATURE;
+            case MATURE, ROTTEN -> GrowthStage.ROTTEN;
+        };
+    }
+
+    static GrowthStage advanceGrowth(GrowthStage stage) {
+        if (stage == null) return null;
+        if (stage != GrowthStage.ROTTEN && stage != GrowthStage.MATURE) {
+            return STAGES[stage.ordinal() + 1];
         }
+        return stage;
+    }
+
+    static GrowthStage restore(GrowthStage stage) {
+        return stage == GrowthStage.ROTTEN ? GrowthStage.MATURE : null;
     }
-}
 
+    static TextureRegion appearance(GrowthStage stage) {
+        return switch (stage) {
+            case SEED -> Textures.CROP_SEED;
+            case SPROUT -> Textures.CROP_SPROUT;
+            case MATURE -> Textures.CROP_MATURE;
+            case ROTTEN -> Textures.CROP_ROTTEN;
+        };
+    }
+}
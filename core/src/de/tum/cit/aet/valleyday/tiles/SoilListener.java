@@ -0,0 +1,13 @@
+package de.tum.cit.aet.valleyday.tiles;
+
+/**
+ * Gets notified when a crop appears on, changes on or disappears from a soil cell of a {@link TileStorage}.
+ * The map uses this to schedule crop growth.
+ */
+public interface SoilListener {
+    void onCropPlanted(int x, int y);
+
+    void onCropStageChanged(int x, int y);
+
+    void onCropRemoved(int x, int y);
+}
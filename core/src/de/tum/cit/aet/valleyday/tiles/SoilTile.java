@@ -1,63 +1,73 @@
 package de.tum.cit.aet.valleyday.tiles;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import de.tum.cit.aet.valleyday.texture.Textures;
 
+/**
+ * A view of a soil cell in a {@link TileStorage}. Views are created on demand and hold no state of
+ * their own, two views of the same cell are equal.
+ */
 public class SoilTile extends Tile {
-    private Crop crop;
+    private final TileStorage storage;
 
-    public SoilTile(int x, int y) {
+    public SoilTile(TileStorage storage, int x, int y) {
         super(x, y);
+        this.storage = storage;
     }
 
     @Override
     public TextureRegion getCurrentAppearance() {
-        if (crop != null) {
-            return crop.getCurrentAppearance();
-        }
-        return Textures.SOIL_EMPTY;
-    }
-
-    @Override
-    public void tick(float frameTime) {
-        if (crop != null) {
-            crop.tick(frameTime);
-        }
+        return storage.getAppearance(x, y);
     }
 
     public void plantSeed() {
-        if (crop == null) {
-            crop = new Crop(x, y);
-        }
+        storage.plantSeed(x, y);
     }
 
     public void harvestCrop() {
-        if (crop != null && crop.isMature()) {
-            crop = null;
+        if (storage.hasMatureCrop(x, y)) {
+            storage.removeCrop(x, y);
         }
     }
 
     public boolean hasCrop() {
-        return crop != null;
+        return storage.hasCrop(x, y);
     }
 
+    /** A view of the crop on this cell, or null if there is none. */
     public Crop getCrop() {
-        return crop;
+        return storage.hasCrop(x, y) ? new Crop(storage, x, y) : null;
+    }
+
+    /**
+     * Advances the crop by one growth stage, see {@link Crop#grow()}.
+     */
+    public void growCrop() {
+        storage.growCrop(x, y);
     }
 
     public void applyFertilizer() {
-        if (crop != null) {
-            crop.advanceGrowth();
-        }
+        storage.advanceGrowth(x, y);
     }
 
     public void applyWateringCan() {
-        if (crop != null && crop.isRotten()) {
-            crop.restore();
-        }
+        storage.restoreCrop(x, y);
     }
 
     public void removeCrop() {
-        crop = null;
+        storage.removeCrop(x, y);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof SoilTile)) {
+            return false;
+        }
+        SoilTile soil = (SoilTile) other;
+        return soil.storage == storage && soil.x == x && soil.y == y;
+    }
+
+    @Override
+    public int hashCode() {
+        return y * storage.getWidth() + x;
     }
 }
@@ -0,0 +1,196 @@
+package de.tum.cit.aet.valleyday.tiles;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.IntMap;
+import de.tum.cit.aet.valleyday.texture.Textures;
+
+import java.util.Arrays;
+
+/**
+ * The tiles of a map, stored as primitive arrays instead of one object per cell.
+ * <p>
+ * Almost every cell is soil, so a cell is just two bytes: what kind of tile it is and the growth
+ * stage of its crop. The few other tiles (fences, debris, tools, ...) still are {@link Tile} objects,
+ * kept in an {@link IntMap} next to the arrays (no boxing of the cell index when drawing them). Cells are indexed {@code y * width + x}.
+ * <p>
+ * {@link #getTile(int, int)} hands out lightweight {@link SoilTile} and {@link Crop} views for code
+ * that works with tile objects. Per-frame code should use the primitive accessors, which never allocate.
+ */
+public class TileStorage {
+    private static final byte KIND_SOIL = 0;
+    private static final byte KIND_OBJECT = 1;
+    private static final byte NO_CROP = -1;
+    private static final Crop.GrowthStage[] STAGES = Crop.GrowthStage.values();
+
+    private final int width;
+    private final int height;
+    private final byte[] kinds;
+    private final byte[] cropStages;
+    private final IntMap<Tile> objects = new IntMap<>();
+    private SoilListener listener;
+    private CellListener cellListener;
+
+    public TileStorage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.kinds = new byte[width * height];
+        this.cropStages = new byte[width * height];
+        Arrays.fill(cropStages, NO_CROP);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets notified about crops being planted, growing and removed anywhere in this storage.
+     */
+    public void setListener(SoilListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gets notified about every change of how a cell looks, see {@link CellListener}.
+     */
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    private void cellChanged(int x, int y) {
+        if (cellListener != null) cellListener.onCellChanged(x, y);
+    }
+
+    /**
+     * The tile at (x, y): the stored object for special tiles, a new {@link SoilTile} view for soil.
+     */
+    public Tile getTile(int x, int y) {
+        int cell = y * width + x;
+        if (kinds[cell] == KIND_OBJECT) {
+            return objects.get(cell);
+        }
+        return new SoilTile(this, x, y);
+    }
+
+    /**
+     * The special tile at (x, y), or null if it is soil.
+     */
+    public Tile getObject(int x, int y) {
+        int cell = y * width + x;
+        return kinds[cell] == KIND_OBJECT ? objects.get(cell) : null;
+    }
+
+    /**
+     * Puts a tile at (x, y). A {@link SoilTile} turns the cell back into soil, any crop on the cell is removed.
+     */
+    public void setTile(int x, int y, Tile tile) {
+        if (tile instanceof SoilTile) {
+            setSoil(x, y);
+            return;
+        }
+        int cell = y * width + x;
+        removeCrop(x, y);
+        kinds[cell] = KIND_OBJECT;
+        objects.put(cell, tile);
+        cellChanged(x, y);
+    }
+
+    /**
+     * Turns (x, y) back into empty soil, like {@code setTile} with a {@link SoilTile} but without creating one.
+     */
+    public void setSoil(int x, int y) {
+        int cell = y * width + x;
+        removeCrop(x, y);
+        kinds[cell] = KIND_SOIL;
+        objects.remove(cell);
+        cellChanged(x, y);
+    }
+
+    public boolean isSoil(int x, int y) {
+        return kinds[y * width + x] == KIND_SOIL;
+    }
+
+    public boolean isWalkable(int x, int y) {
+        int cell = y * width + x;
+        return kinds[cell] == KIND_SOIL || objects.get(cell).isWalkable();
+    }
+
+    /**
+     * What the tile at (x, y) looks like, without creating a view.
+     */
+    public TextureRegion getAppearance(int x, int y) {
+        int cell = y * width + x;
+        if (kinds[cell] == KIND_OBJECT) {
+            return objects.get(cell).getCurrentAppearance();
+        }
+        byte stage = cropStages[cell];
+        return stage == NO_CROP ? Textures.SOIL_EMPTY : Crop.appearance(STAGES[stage]);
+    }
+
+    // Crops
+
+    public boolean hasCrop(int x, int y) {
+        return cropStages[y * width + x] != NO_CROP;
+    }
+
+    /** The growth stage of the crop at (x, y), or null if there is none. */
+    public Crop.GrowthStage getCropStage(int x, int y) {
+        byte stage = cropStages[y * width + x];
+        return stage == NO_CROP ? null : STAGES[stage];
+    }
+
+    public boolean hasMatureCrop(int x, int y) {
+        return cropStages[y * width + x] == Crop.GrowthStage.MATURE.ordinal();
+    }
+
+    public void plantSeed(int x, int y) {
+        int cell = y * width + x;
+        if (kinds[cell] != KIND_SOIL || cropStages[cell] != NO_CROP) {
+            return;
+        }
+        cropStages[cell] = (byte) Crop.GrowthStage.SEED.ordinal();
+        cellChanged(x, y);
+        if (listener != null) listener.onCropPlanted(x, y);
+    }
+
+    /**
+     * Moves the crop at (x, y) to its next stage, see {@link Crop#grow()}.
+     */
+    public void growCrop(int x, int y) {
+        changeStage(x, y, Crop.grow(getCropStage(x, y)));
+    }
+
+    public void advanceGrowth(int x, int y) {
+        changeStage(x, y, Crop.advanceGrowth(getCropStage(x, y)));
+    }
+
+    public void restoreCrop(int x, int y) {
+        changeStage(x, y, Crop.restore(getCropStage(x, y)));
+    }
+
+    private void changeStage(int x, int y, Crop.GrowthStage stage) {
+        if (stage == null) {
+            return;
+        }
+        cropStages[y * width + x] = (byte) stage.ordinal();
+        cellChanged(x, y);
+        if (listener != null) listener.onCropStageChanged(x, y);
+    }
+
+    public void removeCrop(int x, int y) {
+        int cell = y * width + x;
+        if (cropStages[cell] == NO_CROP) {
+            return;
+        }
+        cropStages[cell] = NO_CROP;
+        cellChanged(x, y);
+        if (listener != null) listener.onCropRemoved(x, y);
+    }
+}
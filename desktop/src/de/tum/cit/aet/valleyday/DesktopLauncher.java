@@ -3,13 +3,25 @@
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class DesktopLauncher {
     public static void main(String[] args) {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setTitle(ValleyDayGame.TITLE);
         config.setWindowedMode(ValleyDayGame.WINDOW_WIDTH, ValleyDayGame.WINDOW_HEIGHT);
-        config.setForegroundFPS(60);
-        new Lwjgl3Application(new ValleyDayGame(), config);
+        config.setForegroundFPS(ValleyDayGame.FOREGROUND_FPS);
+        // Fokus verloren: Spiel pausiert, GameScreen fällt dann auf ValleyDayGame.IDLE_FPS
+        config.setPauseWhenLostFocus(true);
+
+        // --threaded-sim: Simulation läuft auf eigenem Thread, Rendering interpoliert
+        List<String> arguments = Arrays.asList(args);
+        boolean threadedSimulation = arguments.contains("--threaded-sim");
+        // --record <file>: Eingaben aufnehmen, abspielen mit ./gradlew :bench:replay -PreplayFile=<file>
+        int record = arguments.indexOf("--record");
+        String recordPath = record >= 0 && record + 1 < args.length ? args[record + 1] : null;
+        new Lwjgl3Application(new ValleyDayGame(threadedSimulation, recordPath), config);
     }
 
 }